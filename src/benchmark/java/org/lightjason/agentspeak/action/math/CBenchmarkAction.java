@@ -0,0 +1,247 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of all math actions.
+ * Each action is called with flat and nested input lists of
+ * different sizes in sequential and parallel mode, run it with
+ * {@code mvn -P benchmark test-compile exec:exec} and pass JMH options
+ * e.g. {@code -Dbenchmark.arguments="-p m_action=CSum -prof gc"}
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( value = 1, jvmArgsAppend = { "-Xms4G", "-Xmx8G" } )
+public class CBenchmarkAction
+{
+    /**
+     * size of the inner lists on nested input
+     */
+    private static final int NESTEDSIZE = 8;
+
+    /**
+     * action class name
+     */
+    @Param( {
+        "CAbs", "CACos", "CASin", "CATan", "CAverage", "CBinomial", "CCeil", "CCos", "CCosh", "CDegrees",
+        "CExp", "CFactorial", "CFloor", "CGeometricMean", "CHarmonicMean", "CHypot", "CIsPrime", "CLog",
+        "CLog10", "CMax", "CMaxIndex", "CMaxIndices", "CMin", "CMinIndex", "CMinIndices", "CNextPrime", "CPow", "CPrimeFactors", "CRadians",
+        "CRelu", "CRound", "CSigmoid", "CSigmoidDerivative", "CSignum", "CSin", "CSinh", "CSoftplus", "CSqrt", "CStatistics", "CStirling", "CSum", "CTan", "CTanh"
+    } )
+    private String m_action;
+    /**
+     * number of input values
+     */
+    @Param( { "1", "10", "100", "1000", "10000", "100000", "1000000", "10000000" } )
+    private int m_size;
+    /**
+     * input shape
+     */
+    @Param( { "flat", "nested" } )
+    private String m_shape;
+    /**
+     * parallel execution flag
+     */
+    @Param( { "false", "true" } )
+    private boolean m_parallel;
+    /**
+     * action instance
+     */
+    private IAction m_instance;
+    /**
+     * action arguments
+     */
+    private List<ITerm> m_arguments;
+
+
+    /**
+     * creates the action and the input data
+     *
+     * @throws ClassNotFoundException is thrown on unknown action
+     * @throws NoSuchMethodException is thrown on instantiation error
+     * @throws IllegalAccessException is thrown on instantiation error
+     * @throws InvocationTargetException is thrown on instantiation error
+     * @throws InstantiationException is thrown on instantiation error
+     */
+    @Setup( Level.Trial )
+    public void setup() throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException,
+                               InvocationTargetException, InstantiationException
+    {
+        m_instance = (IAction) Class.forName( CBenchmarkAction.class.getPackageName() + "." + m_action ).getConstructor().newInstance();
+
+        final Random l_random = new Random( 42 );
+        final List<ITerm> l_values = values( m_action, m_size, l_random ).mapToObj( CRawTerm::of ).collect( Collectors.toList() );
+
+        m_arguments = Stream.concat(
+            parameter( m_action ).stream().map( CRawTerm::of ),
+            "nested".equals( m_shape ) ? nested( l_values ).stream() : l_values.stream()
+        ).collect( Collectors.toList() );
+    }
+
+    /**
+     * executes the action
+     *
+     * @return return values
+     */
+    @Benchmark
+    public List<ITerm> execute()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        m_instance.execute( m_parallel, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+
+    /**
+     * returns the leading fixed parameter of an action
+     *
+     * @param p_action action class name
+     * @return parameter list
+     */
+    @Nonnull
+    private static List<Double> parameter( @Nonnull final String p_action )
+    {
+        switch ( p_action )
+        {
+            case "CPow":
+                return List.of( 2.5 );
+
+            case "CMaxIndices":
+            case "CMinIndices":
+                return List.of( 10.0 );
+
+            case "CSigmoid":
+                return List.of( 1.0, 1.0, 1.0 );
+
+            default:
+                return List.of();
+        }
+    }
+
+    /**
+     * creates valid input values of an action
+     *
+     * @param p_action action class name
+     * @param p_size number of values
+     * @param p_random random generator
+     * @return values
+     */
+    @Nonnull
+    private static DoubleStream values( @Nonnull final String p_action, @Nonnegative final int p_size, @Nonnull final Random p_random )
+    {
+        final int l_pairs = Math.max( 1, ( p_size + 1 ) / 2 );
+
+        switch ( p_action )
+        {
+            case "CFactorial":
+                return IntStream.range( 0, p_size ).mapToDouble( i -> p_random.nextInt( 21 ) );
+
+            case "CIsPrime":
+            case "CNextPrime":
+            case "CPrimeFactors":
+                return IntStream.range( 0, p_size ).mapToDouble( i -> 2 + p_random.nextInt( 1000000 ) );
+
+            case "CBinomial":
+                return pairs( l_pairs, 61, p_random );
+
+            case "CStirling":
+                return pairs( l_pairs, 21, p_random );
+
+            case "CHypot":
+                return IntStream.range( 0, 2 * l_pairs ).mapToDouble( i -> p_random.nextGaussian() );
+
+            default:
+                return IntStream.range( 0, p_size ).mapToDouble( i -> p_random.nextDouble() );
+        }
+    }
+
+    /**
+     * creates (n, k) pairs with k less or equal n
+     *
+     * @param p_pairs number of pairs
+     * @param p_bound exclusive upper bound of n
+     * @param p_random random generator
+     * @return flatten pairs
+     */
+    @Nonnull
+    private static DoubleStream pairs( @Nonnegative final int p_pairs, @Nonnegative final int p_bound, @Nonnull final Random p_random )
+    {
+        return IntStream.range( 0, p_pairs )
+                        .map( i -> p_random.nextInt( p_bound ) )
+                        .flatMap( i -> IntStream.of( i, p_random.nextInt( i + 1 ) ) )
+                        .asDoubleStream();
+    }
+
+    /**
+     * packs the values into nested lists, every
+     * second inner list is nested a second time
+     *
+     * @param p_values values
+     * @return nested terms
+     */
+    @Nonnull
+    private static List<ITerm> nested( @Nonnull final List<ITerm> p_values )
+    {
+        return IntStream.range( 0, ( p_values.size() + NESTEDSIZE - 1 ) / NESTEDSIZE )
+                        .mapToObj( i -> {
+                            final ITerm l_inner = CRawTerm.of( new ArrayList<>( p_values.subList( i * NESTEDSIZE, Math.min( p_values.size(), ( i + 1 ) * NESTEDSIZE ) ) ) );
+                            return i % 2 == 0 ? l_inner : CRawTerm.of( List.of( l_inner ) );
+                        } )
+                        .collect( Collectors.toList() );
+    }
+
+}
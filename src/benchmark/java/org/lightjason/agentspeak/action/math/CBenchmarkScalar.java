@@ -0,0 +1,146 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the per-call overhead of math actions
+ * with a single value. The "scalar" shape passes the value
+ * directly and uses the scalar fast path, the "list" shape
+ * wraps the same value into a list and runs the flatten path,
+ * run it with {@code mvn -P benchmark test-compile exec:exec}
+ * e.g. {@code -Dbenchmark.arguments="CBenchmarkScalar -prof gc"}
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class CBenchmarkScalar
+{
+    /**
+     * action class name
+     */
+    @Param( { "CAbs", "CAverage", "CMax", "CMin", "CPow", "CRound", "CSigmoid", "CSin", "CSqrt", "CSum" } )
+    private String m_action;
+    /**
+     * input shape
+     */
+    @Param( { "scalar", "list" } )
+    private String m_shape;
+    /**
+     * action instance
+     */
+    private IAction m_instance;
+    /**
+     * action arguments
+     */
+    private List<ITerm> m_arguments;
+
+
+    /**
+     * creates the action and the input value
+     *
+     * @throws ClassNotFoundException is thrown on unknown action
+     * @throws NoSuchMethodException is thrown on instantiation error
+     * @throws IllegalAccessException is thrown on instantiation error
+     * @throws InvocationTargetException is thrown on instantiation error
+     * @throws InstantiationException is thrown on instantiation error
+     */
+    @Setup( Level.Trial )
+    public void setup() throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException,
+                               InvocationTargetException, InstantiationException
+    {
+        m_instance = (IAction) Class.forName( CBenchmarkScalar.class.getPackageName() + "." + m_action ).getConstructor().newInstance();
+
+        final ITerm l_value = CRawTerm.of( 0.75 );
+        m_arguments = Stream.concat(
+            parameter( m_action ).stream().map( CRawTerm::of ),
+            Stream.of( "list".equals( m_shape ) ? CRawTerm.of( List.of( l_value ) ) : l_value )
+        ).collect( Collectors.toList() );
+    }
+
+    /**
+     * executes the action
+     *
+     * @return return values
+     */
+    @Benchmark
+    public List<ITerm> execute()
+    {
+        final List<ITerm> l_return = new ArrayList<>( 1 );
+        m_instance.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+
+    /**
+     * returns the leading fixed parameter of an action
+     *
+     * @param p_action action class name
+     * @return parameter list
+     */
+    @Nonnull
+    private static List<Double> parameter( @Nonnull final String p_action )
+    {
+        switch ( p_action )
+        {
+            case "CPow":
+                return List.of( 2.5 );
+
+            case "CSigmoid":
+                return List.of( 1.0, 1.0, 1.0 );
+
+            default:
+                return List.of();
+        }
+    }
+
+}
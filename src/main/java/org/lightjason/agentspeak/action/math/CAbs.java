@@ -23,18 +23,12 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
-import org.lightjason.agentspeak.language.execution.IContext;
-import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
-import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.DoubleUnaryOperator;
 
 
 /**
@@ -45,7 +39,7 @@ import java.util.stream.Stream;
  *
  * @see <a href="https://en.wikipedia.org/wiki/Absolute_value"></a>
  */
-public final class CAbs extends IBaseAction
+public final class CAbs extends IBaseUnaryAction
 {
     /**
      * serial id
@@ -63,28 +57,18 @@ public final class CAbs extends IBaseAction
         return NAME;
     }
 
-    @Nonnegative
+    @Nonnull
     @Override
-    public int minimalArgumentNumber()
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
     {
-        return 1;
+        return Math::abs;
     }
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
-    )
+    protected EVectorOperation vectoroperation()
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToDouble( Number::doubleValue )
-               .boxed()
-               .map( Math::abs )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
-
-        return Stream.empty();
+        return EVectorOperation.ABS;
     }
 
 }
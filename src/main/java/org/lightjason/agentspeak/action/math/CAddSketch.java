@@ -0,0 +1,95 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action for adding values to a quantile sketch.
+ * The first argument is the sketch, all other unflatten
+ * arguments are added, on parallel calls large inputs
+ * are split into sketches, which are merged
+ *
+ * {@code .math/addsketch( K, 4, [5, 6] );}
+ */
+public final class CAddSketch extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3916324373423983237L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CAddSketch.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CQuantileSketch l_sketch = p_argument.get( 0 ).raw();
+        final List<ITerm> l_values = p_argument.subList( 1, p_argument.size() );
+
+        if ( CMathCommon.parallel( p_parallel, CMathCommon.size( l_values ) ) )
+        {
+            final CQuantileSketch l_partial = CMathCommon.collect( true, l_values, CCreateSketch::sketch, CQuantileSketch::combine );
+            synchronized ( l_sketch )
+            {
+                l_sketch.combine( l_partial );
+            }
+        }
+        else
+            synchronized ( l_sketch )
+            {
+                CMathCommon.consume( l_values, l_sketch );
+            }
+
+        return Stream.empty();
+    }
+
+}
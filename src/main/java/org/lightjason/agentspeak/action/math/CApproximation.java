@@ -0,0 +1,390 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnull;
+import java.util.stream.IntStream;
+
+
+/**
+ * table-based approximations of transcendental functions.
+ * The arguments are reduced to a small interval around a table point,
+ * the table stores the exact function value at the point and a short
+ * Taylor polynomial corrects the remainder. Arguments outside of the
+ * supported range are passed to java.lang.Math. The approximation is
+ * enabled for all functions by "action.math.approximate" and for a single
+ * function by "action.math.<function>.approximate". The error bounds are
+ * measured against java.lang.Math:
+ *
+ * - exp: relative error less than \f$ 10^{-13} \f$
+ * - log, log10: absolute error less than \f$ 2 \cdot 10^{-13} \f$
+ * - sin, cos: absolute error less than \f$ 10^{-11} \f$ for \f$ |x| \leq 2^{16} \f$
+ * - tan: absolute error less than \f$ 10^{-11} ( 1 + |\tan x| ) / |\cos x| \f$ for \f$ |x| \leq 2^{16} \f$
+ * - sinh, cosh, tanh: relative error less than \f$ 10^{-12} \f$
+ */
+final class CApproximation
+{
+    /**
+     * global approximation flag
+     */
+    private static final boolean APPROXIMATE = CConfiguration.bool( "approximate", false );
+    /**
+     * relative error of exp
+     */
+    static final double EXPERROR = 1e-13;
+    /**
+     * absolute error of log and log10
+     */
+    static final double LOGERROR = 2e-13;
+    /**
+     * absolute error of sin and cos
+     */
+    static final double TRIGONOMETRICERROR = 1e-11;
+    /**
+     * relative error of the hyperbolic functions
+     */
+    static final double HYPERBOLICERROR = 1e-12;
+    /**
+     * largest absolute argument of the trigonometric functions
+     */
+    static final double TRIGONOMETRICRANGE = 65536;
+
+    /**
+     * bits of the exp table size
+     */
+    private static final int EXPBITS = 6;
+    /**
+     * exp table size
+     */
+    private static final int EXPSIZE = 1 << EXPBITS;
+    /**
+     * \f$ \frac{2^{bits}}{\ln 2} \f$
+     */
+    private static final double EXPSCALE = EXPSIZE / Math.log( 2 );
+    /**
+     * high part of \f$ \frac{\ln 2}{2^{bits}} \f$ with 32 significant bits
+     */
+    private static final double EXPSTEPHIGH = Double.longBitsToDouble( Double.doubleToRawLongBits( Math.log( 2 ) / EXPSIZE ) & 0xffffffffe0000000L );
+    /**
+     * low part of \f$ \frac{\ln 2}{2^{bits}} \f$
+     */
+    private static final double EXPSTEPLOW = Math.log( 2 ) / EXPSIZE - EXPSTEPHIGH;
+    /**
+     * bit patterns of \f$ 2^{\frac{j}{2^{bits}}} \f$
+     */
+    private static final long[] EXPTABLE = IntStream.range( 0, EXPSIZE ).mapToLong( i -> Double.doubleToRawLongBits( Math.pow( 2, (double) i / EXPSIZE ) ) ).toArray();
+    /**
+     * largest exp argument with a normal result
+     */
+    private static final double EXPMAXIMUM = 709;
+    /**
+     * smallest exp argument with a normal result
+     */
+    private static final double EXPMINIMUM = -708;
+
+    /**
+     * bits of the log table size
+     */
+    private static final int LOGBITS = 7;
+    /**
+     * log table size
+     */
+    private static final int LOGSIZE = 1 << LOGBITS;
+    /**
+     * logarithm of the table points \f$ 1 + \frac{j}{2^{bits}} \f$
+     */
+    private static final double[] LOGTABLE = IntStream.range( 0, LOGSIZE ).mapToDouble( i -> Math.log1p( (double) i / LOGSIZE ) ).toArray();
+    /**
+     * inverse table points
+     */
+    private static final double[] LOGINVERSE = IntStream.range( 0, LOGSIZE ).mapToDouble( i -> LOGSIZE / (double) ( LOGSIZE + i ) ).toArray();
+    /**
+     * mantissa bits of the table point
+     */
+    private static final long LOGPOINTMASK = ( LOGSIZE - 1L ) << ( 52 - LOGBITS );
+    /**
+     * \f$ \ln 2 \f$
+     */
+    private static final double LN2 = Math.log( 2 );
+    /**
+     * \f$ \frac{1}{\ln 10} \f$
+     */
+    private static final double INVERSELN10 = 1 / Math.log( 10 );
+
+    /**
+     * trigonometric table size
+     */
+    private static final int TRIGONOMETRICSIZE = 64;
+    /**
+     * \f$ \frac{size}{2 \pi} \f$
+     */
+    private static final double TRIGONOMETRICSCALE = TRIGONOMETRICSIZE / ( 2 * Math.PI );
+    /**
+     * high part of \f$ \frac{2 \pi}{size} \f$ with 32 significant bits
+     */
+    private static final double TRIGONOMETRICSTEPHIGH = Double.longBitsToDouble( Double.doubleToRawLongBits( 2 * Math.PI / TRIGONOMETRICSIZE ) & 0xffffffffe0000000L );
+    /**
+     * low part of \f$ \frac{2 \pi}{size} \f$
+     */
+    private static final double TRIGONOMETRICSTEPLOW = 2 * Math.PI / TRIGONOMETRICSIZE - TRIGONOMETRICSTEPHIGH;
+    /**
+     * sine of the table points
+     */
+    private static final double[] SINTABLE = IntStream.range( 0, TRIGONOMETRICSIZE ).mapToDouble( i -> Math.sin( 2 * Math.PI * i / TRIGONOMETRICSIZE ) ).toArray();
+    /**
+     * cosine of the table points
+     */
+    private static final double[] COSTABLE = IntStream.range( 0, TRIGONOMETRICSIZE ).mapToDouble( i -> Math.cos( 2 * Math.PI * i / TRIGONOMETRICSIZE ) ).toArray();
+
+    /**
+     * absolute argument, below which the hyperbolic functions use a Taylor polynomial
+     */
+    private static final double HYPERBOLICSMALL = 0.25;
+    /**
+     * absolute argument, above which tanh is one
+     */
+    private static final double TANHSATURATION = 22;
+
+    /**
+     * ctor
+     */
+    private CApproximation()
+    {
+    }
+
+
+    /**
+     * checks if a function is approximated
+     *
+     * @param p_function function name
+     * @return approximation flag
+     */
+    static boolean enabled( @Nonnull final String p_function )
+    {
+        return CConfiguration.bool( p_function + ".approximate", APPROXIMATE );
+    }
+
+    /**
+     * approximated exponential function
+     *
+     * @param p_value value
+     * @return \f$ e^x \f$
+     */
+    static double exp( final double p_value )
+    {
+        if ( !( p_value > EXPMINIMUM && p_value < EXPMAXIMUM ) )
+            return Math.exp( p_value );
+
+        final long l_index = (long) Math.rint( p_value * EXPSCALE );
+        final double l_remainder = p_value - l_index * EXPSTEPHIGH - l_index * EXPSTEPLOW;
+        final double l_polynomial = 1 + l_remainder * ( 1 + l_remainder * ( 0.5 + l_remainder * ( 1.0 / 6 + l_remainder * ( 1.0 / 24 ) ) ) );
+
+        return Double.longBitsToDouble( EXPTABLE[(int) ( l_index & ( EXPSIZE - 1 ) )] + ( ( l_index >> EXPBITS ) << 52 ) ) * l_polynomial;
+    }
+
+    /**
+     * approximated natural logarithm
+     *
+     * @param p_value value
+     * @return \f$ \ln x \f$
+     */
+    static double log( final double p_value )
+    {
+        if ( !( p_value >= Double.MIN_NORMAL && p_value < Double.POSITIVE_INFINITY ) )
+            return Math.log( p_value );
+
+        final long l_bits = Double.doubleToRawLongBits( p_value );
+        final int l_exponent = (int) ( l_bits >>> 52 ) - 1023;
+        final int l_index = (int) ( l_bits >>> ( 52 - LOGBITS ) ) & ( LOGSIZE - 1 );
+
+        final double l_mantissa = Double.longBitsToDouble( ( l_bits & 0x000fffffffffffffL ) | 0x3ff0000000000000L );
+        final double l_point = Double.longBitsToDouble( ( l_bits & LOGPOINTMASK ) | 0x3ff0000000000000L );
+        final double l_remainder = ( l_mantissa - l_point ) * LOGINVERSE[l_index];
+        final double l_polynomial = l_remainder * ( 1 - l_remainder * ( 0.5 - l_remainder * ( 1.0 / 3 - l_remainder * ( 0.25 - l_remainder * 0.2 ) ) ) );
+
+        return l_exponent * LN2 + LOGTABLE[l_index] + l_polynomial;
+    }
+
+    /**
+     * approximated decimal logarithm
+     *
+     * @param p_value value
+     * @return \f$ \log_{10} x \f$
+     */
+    static double log10( final double p_value )
+    {
+        return log( p_value ) * INVERSELN10;
+    }
+
+    /**
+     * approximated sine
+     *
+     * @param p_value value
+     * @return \f$ \sin x \f$
+     */
+    static double sin( final double p_value )
+    {
+        if ( !( Math.abs( p_value ) <= TRIGONOMETRICRANGE ) )
+            return Math.sin( p_value );
+
+        final int l_index = (int) Math.rint( p_value * TRIGONOMETRICSCALE );
+        final double l_remainder = p_value - l_index * TRIGONOMETRICSTEPHIGH - l_index * TRIGONOMETRICSTEPLOW;
+        final int l_table = l_index & ( TRIGONOMETRICSIZE - 1 );
+
+        return SINTABLE[l_table] * cospolynomial( l_remainder ) + COSTABLE[l_table] * sinpolynomial( l_remainder );
+    }
+
+    /**
+     * approximated cosine
+     *
+     * @param p_value value
+     * @return \f$ \cos x \f$
+     */
+    static double cos( final double p_value )
+    {
+        if ( !( Math.abs( p_value ) <= TRIGONOMETRICRANGE ) )
+            return Math.cos( p_value );
+
+        final int l_index = (int) Math.rint( p_value * TRIGONOMETRICSCALE );
+        final double l_remainder = p_value - l_index * TRIGONOMETRICSTEPHIGH - l_index * TRIGONOMETRICSTEPLOW;
+        final int l_table = l_index & ( TRIGONOMETRICSIZE - 1 );
+
+        return COSTABLE[l_table] * cospolynomial( l_remainder ) - SINTABLE[l_table] * sinpolynomial( l_remainder );
+    }
+
+    /**
+     * approximated tangent
+     *
+     * @param p_value value
+     * @return \f$ \tan x \f$
+     */
+    static double tan( final double p_value )
+    {
+        if ( !( Math.abs( p_value ) <= TRIGONOMETRICRANGE ) )
+            return Math.tan( p_value );
+
+        final int l_index = (int) Math.rint( p_value * TRIGONOMETRICSCALE );
+        final double l_remainder = p_value - l_index * TRIGONOMETRICSTEPHIGH - l_index * TRIGONOMETRICSTEPLOW;
+        final int l_table = l_index & ( TRIGONOMETRICSIZE - 1 );
+
+        final double l_sin = sinpolynomial( l_remainder );
+        final double l_cos = cospolynomial( l_remainder );
+        return ( SINTABLE[l_table] * l_cos + COSTABLE[l_table] * l_sin ) / ( COSTABLE[l_table] * l_cos - SINTABLE[l_table] * l_sin );
+    }
+
+    /**
+     * approximated hyperbolic sine
+     *
+     * @param p_value value
+     * @return \f$ \sinh x \f$
+     */
+    static double sinh( final double p_value )
+    {
+        if ( Math.abs( p_value ) < HYPERBOLICSMALL )
+            return sinhpolynomial( p_value );
+
+        final double l_exp = exp( p_value );
+        return 0.5 * ( l_exp - 1 / l_exp );
+    }
+
+    /**
+     * approximated hyperbolic cosine
+     *
+     * @param p_value value
+     * @return \f$ \cosh x \f$
+     */
+    static double cosh( final double p_value )
+    {
+        final double l_exp = exp( p_value );
+        return 0.5 * ( l_exp + 1 / l_exp );
+    }
+
+    /**
+     * approximated hyperbolic tangent
+     *
+     * @param p_value value
+     * @return \f$ \tanh x \f$
+     */
+    static double tanh( final double p_value )
+    {
+        final double l_absolute = Math.abs( p_value );
+        if ( l_absolute > TANHSATURATION )
+            return Math.signum( p_value );
+        if ( l_absolute < HYPERBOLICSMALL )
+            return sinhpolynomial( p_value ) / coshpolynomial( p_value );
+
+        final double l_exp = exp( -2 * l_absolute );
+        return Math.copySign( ( 1 - l_exp ) / ( 1 + l_exp ), p_value );
+    }
+
+
+    /**
+     * Taylor polynomial of the sine for \f$ |x| \leq \frac{\pi}{64} \f$
+     *
+     * @param p_value value
+     * @return sine
+     */
+    private static double sinpolynomial( final double p_value )
+    {
+        final double l_square = p_value * p_value;
+        return p_value * ( 1 - l_square * ( 1.0 / 6 - l_square * ( 1.0 / 120 - l_square * ( 1.0 / 5040 ) ) ) );
+    }
+
+    /**
+     * Taylor polynomial of the cosine for \f$ |x| \leq \frac{\pi}{64} \f$
+     *
+     * @param p_value value
+     * @return cosine
+     */
+    private static double cospolynomial( final double p_value )
+    {
+        final double l_square = p_value * p_value;
+        return 1 - l_square * ( 0.5 - l_square * ( 1.0 / 24 - l_square * ( 1.0 / 720 ) ) );
+    }
+
+    /**
+     * Taylor polynomial of the hyperbolic sine for small values
+     *
+     * @param p_value value
+     * @return hyperbolic sine
+     */
+    private static double sinhpolynomial( final double p_value )
+    {
+        final double l_square = p_value * p_value;
+        return p_value * ( 1 + l_square * ( 1.0 / 6 + l_square * ( 1.0 / 120 + l_square * ( 1.0 / 5040 + l_square * ( 1.0 / 362880 ) ) ) ) );
+    }
+
+    /**
+     * Taylor polynomial of the hyperbolic cosine for small values
+     *
+     * @param p_value value
+     * @return hyperbolic cosine
+     */
+    private static double coshpolynomial( final double p_value )
+    {
+        final double l_square = p_value * p_value;
+        return 1 + l_square * ( 0.5 + l_square * ( 1.0 / 24 + l_square * ( 1.0 / 720 + l_square * ( 1.0 / 40320 ) ) ) );
+    }
+
+}
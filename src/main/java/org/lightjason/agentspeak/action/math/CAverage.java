@@ -23,10 +23,8 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionException;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -40,14 +38,15 @@ import java.util.stream.Stream;
 
 /**
  * action for average.
- * The action calculates \f$ \frac{1}{i} \sum_{i} x_i \f$ over all arguments,
+ * The action calculates \f$ \frac{1}{i} \sum_{i} x_i \f$ over all arguments
+ * with the configured summation engine,
  * but can throw a runtime exception
  *
  * {@code A = .math/average( 1, 3, 9, [10, [11, 12]] );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Average"></a>
  */
-public final class CAverage extends IBaseAction
+public final class CAverage extends IBaseMathAction
 {
     /**
      * serial id
@@ -74,14 +73,22 @@ public final class CAverage extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        p_return.add( CRawTerm.of(
-            CCommon.flatten( p_argument ).mapToDouble( i -> i.<Number>raw().doubleValue() ).average()
-                   .orElseThrow( () -> new CExecutionException( p_context ) )
-        ) );
+        final Number l_scalar = CMathCommon.scalar( p_argument );
+        if ( l_scalar != null )
+        {
+            p_return.add( CRawTerm.of( l_scalar.doubleValue() ) );
+            return Stream.empty();
+        }
+
+        final double[] l_values = CMathCommon.flatten( p_argument );
+        if ( l_values.length == 0 )
+            throw new CExecutionException( p_context );
+
+        p_return.add( CRawTerm.of( ESummation.DEFAULT.sum( p_parallel, l_values ) / l_values.length ) );
         return Stream.empty();
     }
 
@@ -23,11 +23,7 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import com.codepoetics.protonpack.StreamUtils;
-import org.apache.commons.math3.util.CombinatoricsUtils;
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -35,7 +31,10 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntToDoubleFunction;
 import java.util.stream.Stream;
 
 
@@ -43,13 +42,18 @@ import java.util.stream.Stream;
  * action for calculating binomial coefficient.
  * Calcluates \f$ \binom{n}{k} \f$, where n is the
  * first argument and k the second of each given input
- * tupel
+ * tupel, an optional leading string argument sets the
+ * result mode "exact", "double", "log" or "biginteger",
+ * coefficients of small n are read from a shared cache,
+ * "biginteger" results are memoized with the cache size
+ * "action.math.binomial.memoization"
  *
  * {@code [B1|B2] = .math/binomial( 49, 6,  30, 5 );}
+ * {@code [L] = .math/binomial( "log", 100000, 500 );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Binomial_coefficient"></a>
  */
-public final class CBinomial extends IBaseAction
+public final class CBinomial extends IBaseMathAction
 {
     /**
      * serial id
@@ -59,6 +63,10 @@ public final class CBinomial extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CBinomial.class, "math" );
+    /**
+     * memoization of arbitrary-precision values
+     */
+    private static final CMemoization<BigInteger> MEMOIZATION = CMemoization.of( "binomial" );
 
     @Nonnull
     @Override
@@ -76,23 +84,64 @@ public final class CBinomial extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        StreamUtils.windowed(
-            CCommon.flatten( p_argument )
-                   .map( ITerm::<Number>raw )
-                   .mapToInt( Number::intValue )
-                   .boxed(),
-            2,
-            2
-        )
-                   .map( i -> CombinatoricsUtils.binomialCoefficient( i.get( 0 ), i.get( 1 ) ) )
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        final ECombinatoricsMode l_mode = ECombinatoricsMode.of( p_argument );
+        final double[] l_values = CMathCommon.flatten( ECombinatoricsMode.arguments( p_argument ) );
+        final int l_size = l_values.length / 2;
+        CMathCommon.reserve( p_return, l_size );
+
+        switch ( l_mode )
+        {
+            case BIGINTEGER:
+                for ( int i = 0; i < l_size; i++ )
+                    p_return.add( CRawTerm.of( big( (int) l_values[2 * i], (int) l_values[2 * i + 1] ) ) );
+                break;
+
+            case DOUBLE:
+            case LOG:
+                final double[] l_result = new double[l_size];
+                final IntToDoubleFunction l_kernel = l_mode == ECombinatoricsMode.LOG
+                                                     ? i -> CPascalTriangle.binomiallog( (int) l_values[2 * i], (int) l_values[2 * i + 1] )
+                                                     : i -> CPascalTriangle.binomialdouble( (int) l_values[2 * i], (int) l_values[2 * i + 1] );
+                if ( CMathCommon.parallel( p_parallel, l_size ) )
+                    Arrays.parallelSetAll( l_result, l_kernel );
+                else
+                    for ( int i = 0; i < l_size; i++ )
+                        l_result[i] = l_kernel.applyAsDouble( i );
+
+                for ( final double i : l_result )
+                    p_return.add( CTermCache.of( i ) );
+                break;
+
+            default:
+                final long[] l_exact = new long[l_size];
+                if ( CMathCommon.parallel( p_parallel, l_size ) )
+                    Arrays.parallelSetAll( l_exact, i -> CPascalTriangle.binomial( (int) l_values[2 * i], (int) l_values[2 * i + 1] ) );
+                else
+                    for ( int i = 0; i < l_size; i++ )
+                        l_exact[i] = CPascalTriangle.binomial( (int) l_values[2 * i], (int) l_values[2 * i + 1] );
+
+                for ( final long i : l_exact )
+                    p_return.add( CTermCache.of( i ) );
+        }
 
         return Stream.empty();
     }
 
+    /**
+     * returns the memoized arbitrary-precision binomial coefficient
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return binomial coefficient
+     */
+    @Nonnull
+    private static BigInteger big( final int p_n, final int p_k )
+    {
+        return MEMOIZATION.get( CMemoization.key( p_n, p_k ), i -> CPascalTriangle.binomialbig( p_n, p_k ) );
+    }
+
 }
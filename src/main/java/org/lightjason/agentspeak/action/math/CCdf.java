@@ -0,0 +1,93 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action for the cumulative distribution of a quantile sketch.
+ * The first argument is the sketch, the action returns for each
+ * unflatten argument x the fraction of values less or equal x,
+ * on an empty sketch NaN is returned
+ *
+ * {@code [P1|P2] = .math/cdf( K, 100, 250 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Cumulative_distribution_function"></a>
+ */
+public final class CCdf extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8293167846730003396L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCdf.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CQuantileSketch l_sketch = p_argument.get( 0 ).raw();
+        final double[] l_values = CMathCommon.flatten( p_argument.subList( 1, p_argument.size() ) );
+
+        synchronized ( l_sketch )
+        {
+            for ( int i = 0; i < l_values.length; i++ )
+                l_values[i] = l_sketch.cdf( l_values[i] );
+        }
+
+        CMathCommon.reserve( p_return, l_values.length );
+        for ( final double i : l_values )
+            p_return.add( CTermCache.of( i ) );
+
+        return Stream.empty();
+    }
+
+}
@@ -23,18 +23,12 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
-import org.lightjason.agentspeak.language.execution.IContext;
-import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
-import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.DoubleUnaryOperator;
 
 
 /**
@@ -46,7 +40,7 @@ import java.util.stream.Stream;
  *
  * @see <a href="https://en.wikipedia.org/wiki/Floor_and_ceiling_functions"></a>
  */
-public final class CCeil extends IBaseAction
+public final class CCeil extends IBaseUnaryAction
 {
     /**
      * serial id
@@ -64,28 +58,18 @@ public final class CCeil extends IBaseAction
         return NAME;
     }
 
-    @Nonnegative
+    @Nonnull
     @Override
-    public int minimalArgumentNumber()
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
     {
-        return 1;
+        return Math::ceil;
     }
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
-    )
+    protected EVectorOperation vectoroperation()
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToDouble( Number::doubleValue )
-               .boxed()
-               .map( Math::ceil )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
-
-        return Stream.empty();
+        return EVectorOperation.CEIL;
     }
 
 }
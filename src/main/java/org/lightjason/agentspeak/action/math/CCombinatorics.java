@@ -0,0 +1,249 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.apache.commons.math3.exception.NotPositiveException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+import org.apache.commons.math3.special.Gamma;
+import org.apache.commons.math3.util.CombinatoricsUtils;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * shared combinatoric functions with precomputed tables.
+ * Factorials are stored exactly for the long range and as
+ * floating-point values and logarithms up to the double range
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Factorial"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Gamma_function#The_log-gamma_function"></a>
+ */
+final class CCombinatorics
+{
+    /**
+     * largest factorial argument within the long range
+     */
+    static final int FACTORIALLONG = 20;
+    /**
+     * largest factorial argument within the double range
+     */
+    static final int FACTORIALDOUBLE = 170;
+    /**
+     * exact factorials
+     */
+    private static final long[] FACTORIAL = new long[FACTORIALLONG + 1];
+    /**
+     * correctly rounded factorials
+     */
+    private static final double[] FACTORIALFLOAT = new double[FACTORIALDOUBLE + 1];
+    /**
+     * logarithm of the factorials
+     */
+    private static final double[] FACTORIALLOG = new double[FACTORIALDOUBLE + 1];
+    /**
+     * range size, which is multiplied sequentially in the product tree
+     */
+    private static final int PRODUCTLEAF = 64;
+    /**
+     * range size, which is split into parallel tasks in the product tree
+     */
+    private static final int PRODUCTFORK = 4096;
+
+    static
+    {
+        BigInteger l_factorial = BigInteger.ONE;
+        for ( int i = 0; i <= FACTORIALDOUBLE; i++ )
+        {
+            if ( i > 0 )
+                l_factorial = l_factorial.multiply( BigInteger.valueOf( i ) );
+            if ( i <= FACTORIALLONG )
+                FACTORIAL[i] = l_factorial.longValueExact();
+
+            FACTORIALFLOAT[i] = l_factorial.doubleValue();
+            FACTORIALLOG[i] = Math.log( FACTORIALFLOAT[i] );
+        }
+    }
+
+    /**
+     * ctor
+     */
+    private CCombinatorics()
+    {
+    }
+
+
+    /**
+     * exact factorial
+     *
+     * @param p_value number
+     * @return factorial
+     * @throws org.apache.commons.math3.exception.MathArithmeticException if the result exceeds the long range
+     */
+    static long factorial( final int p_value )
+    {
+        return p_value >= 0 && p_value <= FACTORIALLONG ? FACTORIAL[p_value] : CombinatoricsUtils.factorial( p_value );
+    }
+
+    /**
+     * floating-point factorial
+     *
+     * @param p_value number
+     * @return factorial or infinity
+     */
+    static double factorialdouble( final int p_value )
+    {
+        checknegative( p_value );
+        return p_value <= FACTORIALDOUBLE ? FACTORIALFLOAT[p_value] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * logarithm of the factorial, large values
+     * are calculated by the log-gamma function
+     *
+     * @param p_value number
+     * @return natural logarithm of the factorial
+     */
+    static double factoriallog( final int p_value )
+    {
+        checknegative( p_value );
+        return p_value <= FACTORIALDOUBLE ? FACTORIALLOG[p_value] : Gamma.logGamma( p_value + 1.0 );
+    }
+
+    /**
+     * arbitrary-precision factorial, which is calculated by
+     * a balanced product tree
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_value number
+     * @return factorial
+     */
+    @Nonnull
+    static BigInteger factorialbig( final boolean p_parallel, final int p_value )
+    {
+        checknegative( p_value );
+        if ( p_value <= FACTORIALLONG )
+            return BigInteger.valueOf( FACTORIAL[p_value] );
+
+        final CProduct l_product = new CProduct( p_parallel && p_value >= PRODUCTFORK, FACTORIALLONG + 1, p_value + 1L );
+        return BigInteger.valueOf( FACTORIAL[FACTORIALLONG] ).multiply(
+            l_product.m_parallel ? ForkJoinPool.commonPool().invoke( l_product ) : l_product.compute()
+        );
+    }
+
+    /**
+     * throws an exception on negative values
+     *
+     * @param p_value number
+     */
+    private static void checknegative( final int p_value )
+    {
+        if ( p_value < 0 )
+            throw new NotPositiveException( LocalizedFormats.FACTORIAL_NEGATIVE_PARAMETER, p_value );
+    }
+
+
+    /**
+     * product of a number range, large ranges are split
+     * into halves, so that the multiplied numbers have
+     * similar sizes, which can be forked on the pool
+     */
+    private static final class CProduct extends RecursiveTask<BigInteger>
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2938415820138722604L;
+        /**
+         * fork flag
+         */
+        private final boolean m_parallel;
+        /**
+         * inclusive start
+         */
+        private final long m_from;
+        /**
+         * exclusive end
+         */
+        private final long m_to;
+
+        /**
+         * ctor
+         *
+         * @param p_parallel fork flag
+         * @param p_from inclusive start
+         * @param p_to exclusive end
+         */
+        CProduct( final boolean p_parallel, @Nonnegative final long p_from, @Nonnegative final long p_to )
+        {
+            m_parallel = p_parallel;
+            m_from = p_from;
+            m_to = p_to;
+        }
+
+        @Override
+        protected BigInteger compute()
+        {
+            if ( m_to - m_from <= PRODUCTLEAF )
+                return this.leaf();
+
+            final long l_middle = ( m_from + m_to ) >>> 1;
+            final CProduct l_left = new CProduct( m_parallel, m_from, l_middle );
+            final CProduct l_right = new CProduct( m_parallel, l_middle, m_to );
+
+            if ( !m_parallel || m_to - m_from < PRODUCTFORK )
+                return l_left.compute().multiply( l_right.compute() );
+
+            l_right.fork();
+            return l_left.compute().multiply( l_right.join() );
+        }
+
+        /**
+         * multiplies the range sequentially and collects
+         * factors in a long until it would overflow
+         *
+         * @return product
+         */
+        @Nonnull
+        private BigInteger leaf()
+        {
+            BigInteger l_result = BigInteger.ONE;
+            long l_factor = 1;
+            for ( long i = m_from; i < m_to; i++ )
+            {
+                if ( l_factor > Long.MAX_VALUE / i )
+                {
+                    l_result = l_result.multiply( BigInteger.valueOf( l_factor ) );
+                    l_factor = 1;
+                }
+                l_factor *= i;
+            }
+            return l_result.multiply( BigInteger.valueOf( l_factor ) );
+        }
+    }
+
+}
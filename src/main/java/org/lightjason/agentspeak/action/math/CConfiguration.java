@@ -0,0 +1,131 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Properties;
+
+
+/**
+ * configuration of the math actions.
+ * All keys are read with the prefix "action.math." from the
+ * configuration.properties, a system property with the same key
+ * overwrites the value, e.g. {@code -Daction.math.parallel.threshold=4096}
+ */
+final class CConfiguration
+{
+    /**
+     * key prefix
+     */
+    private static final String PREFIX = "action.math.";
+    /**
+     * configuration file
+     */
+    private static final String FILE = "org/lightjason/agentspeak/configuration.properties";
+    /**
+     * configuration values
+     */
+    private static final Properties PROPERTIES = load();
+
+    /**
+     * ctor
+     */
+    private CConfiguration()
+    {
+    }
+
+
+    /**
+     * returns a string value
+     *
+     * @param p_key key without prefix
+     * @param p_default default value
+     * @return value
+     */
+    @Nonnull
+    static String string( @Nonnull final String p_key, @Nonnull final String p_default )
+    {
+        return System.getProperty( PREFIX + p_key, PROPERTIES.getProperty( PREFIX + p_key, p_default ) ).trim();
+    }
+
+    /**
+     * returns an integer value
+     *
+     * @param p_key key without prefix
+     * @param p_default default value
+     * @return value
+     */
+    static int integer( @Nonnull final String p_key, final int p_default )
+    {
+        return Integer.parseInt( string( p_key, Integer.toString( p_default ) ) );
+    }
+
+    /**
+     * returns a boolean value
+     *
+     * @param p_key key without prefix
+     * @param p_default default value
+     * @return value
+     */
+    static boolean bool( @Nonnull final String p_key, final boolean p_default )
+    {
+        return Boolean.parseBoolean( string( p_key, Boolean.toString( p_default ) ) );
+    }
+
+
+    /**
+     * reads all configuration files with the action prefix
+     *
+     * @return properties
+     */
+    @Nonnull
+    private static Properties load()
+    {
+        final Properties l_properties = new Properties();
+        try
+        {
+            for ( final URL i : Collections.list( CConfiguration.class.getClassLoader().getResources( FILE ) ) )
+                try ( InputStream l_stream = i.openStream() )
+                {
+                    final Properties l_file = new Properties();
+                    l_file.load( l_stream );
+                    l_file.stringPropertyNames()
+                          .stream()
+                          .filter( j -> j.startsWith( PREFIX ) )
+                          .forEach( j -> l_properties.setProperty( j, l_file.getProperty( j ) ) );
+                }
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new UncheckedIOException( l_exception );
+        }
+        return l_properties;
+    }
+
+}
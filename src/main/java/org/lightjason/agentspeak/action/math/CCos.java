@@ -23,28 +23,23 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
-import org.lightjason.agentspeak.language.execution.IContext;
-import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
-import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.DoubleUnaryOperator;
 
 
 /**
  * action for cosinus value.
  * The action calculates \f$ cos( x_i ) \f$ for
- * each argument in radians and returns the values
+ * each argument in radians and returns the values,
+ * "action.math.cos.approximate" enables a table approximation
  *
  * {@code [A | B] = .math/cos(3, 4);}
  */
-public final class CCos extends IBaseAction
+public final class CCos extends IBaseUnaryAction
 {
     /**
      * serial id
@@ -54,6 +49,10 @@ public final class CCos extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CCos.class, "math" );
+    /**
+     * approximation flag
+     */
+    private static final boolean APPROXIMATE = CApproximation.enabled( "cos" );
 
     @Nonnull
     @Override
@@ -62,28 +61,11 @@ public final class CCos extends IBaseAction
         return NAME;
     }
 
-    @Nonnegative
-    @Override
-    public int minimalArgumentNumber()
-    {
-        return 1;
-    }
-
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
-    )
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToDouble( Number::doubleValue )
-               .boxed()
-               .map( Math::cos )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
-
-        return Stream.empty();
+        return APPROXIMATE ? CApproximation::cos : Math::cos;
     }
 
 }
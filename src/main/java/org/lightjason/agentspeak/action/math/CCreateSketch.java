@@ -0,0 +1,94 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action for creating a quantile sketch.
+ * The action returns a mergeable quantile sketch with bounded
+ * memory, all unflatten arguments are added as initial values,
+ * on parallel calls large inputs are split into sketches,
+ * which are merged
+ *
+ * {@code K = .math/createsketch( 1, [2, 3] );}
+ *
+ * @see <a href="https://arxiv.org/abs/1603.05346"></a>
+ */
+public final class CCreateSketch extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4010080303699622230L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CCreateSketch.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 0;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        p_return.add( CRawTerm.of( CMathCommon.collect( p_parallel, p_argument, CCreateSketch::sketch, CQuantileSketch::combine ) ) );
+        return Stream.empty();
+    }
+
+    /**
+     * creates an empty sketch
+     *
+     * @return sketch with the configured size
+     */
+    @Nonnull
+    static CQuantileSketch sketch()
+    {
+        return new CQuantileSketch( CQuantileSketch.SIZE );
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+
+
+/**
+ * packed list of double values.
+ * The list is a read-only view of a primitive array,
+ * so a result with n values needs a single term and
+ * 8n bytes instead of n terms and n boxed values,
+ * math actions copy the array directly on flatten
+ */
+public final class CDoubleList extends AbstractList<Double> implements RandomAccess, Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2854311694672803539L;
+    /**
+     * values
+     */
+    private final double[] m_values;
+
+    /**
+     * ctor
+     *
+     * @param p_values values, the array is not copied
+     */
+    CDoubleList( @Nonnull final double[] p_values )
+    {
+        m_values = p_values;
+    }
+
+    /**
+     * returns a primitive value
+     *
+     * @param p_index index
+     * @return value
+     */
+    public double value( @Nonnegative final int p_index )
+    {
+        return m_values[p_index];
+    }
+
+    /**
+     * returns a copy of the values
+     *
+     * @return value array
+     */
+    @Nonnull
+    public double[] toDoubleArray()
+    {
+        return m_values.clone();
+    }
+
+    /**
+     * returns a primitive stream of the values
+     *
+     * @return stream
+     */
+    @Nonnull
+    public DoubleStream doubleStream()
+    {
+        return Arrays.stream( m_values );
+    }
+
+    /**
+     * copies the values into an array
+     *
+     * @param p_target target array
+     * @param p_index start index within the target
+     * @return next free index
+     */
+    @Nonnegative
+    int copy( @Nonnull final double[] p_target, @Nonnegative final int p_index )
+    {
+        System.arraycopy( m_values, 0, p_target, p_index, m_values.length );
+        return p_index + m_values.length;
+    }
+
+    @Override
+    public Double get( final int p_index )
+    {
+        return m_values[p_index];
+    }
+
+    @Override
+    public int size()
+    {
+        return m_values.length;
+    }
+
+}
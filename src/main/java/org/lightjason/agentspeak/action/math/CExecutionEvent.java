@@ -0,0 +1,102 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+
+/**
+ * flight recorder event of an action call.
+ * The event is recorded for calls which take longer than the
+ * threshold, the default of 1 ms can be changed by the settings
+ * of the recording, e.g. with the file "math.jfc" of this package
+ * {@code java -XX:StartFlightRecording:settings=default,settings=math.jfc},
+ * events are disabled completely by "action.math.events"
+ */
+@Name( "org.lightjason.agentspeak.action.math.Execution" )
+@Label( "Math Action Execution" )
+@Description( "execution of a LightJason math action" )
+@Category( { "LightJason", "Math" } )
+@Threshold( "1 ms" )
+@StackTrace( false )
+final class CExecutionEvent extends jdk.jfr.Event
+{
+    /**
+     * enable flag
+     */
+    private static volatile boolean s_enabled = CConfiguration.bool( "events", false );
+
+    /**
+     * action name
+     */
+    @Name( "action" )
+    @Label( "Action" )
+    String m_action;
+    /**
+     * number of input elements
+     */
+    @Name( "size" )
+    @Label( "Input Size" )
+    int m_size;
+    /**
+     * execution path
+     */
+    @Name( "path" )
+    @Label( "Execution Path" )
+    @Description( "scalar, sequential, parallel, vector or cached" )
+    String m_path;
+    /**
+     * error flag
+     */
+    @Name( "error" )
+    @Label( "Error" )
+    boolean m_error;
+
+
+    /**
+     * returns the enable flag
+     *
+     * @return flag that events are created
+     */
+    static boolean enabled()
+    {
+        return s_enabled;
+    }
+
+    /**
+     * sets the enable flag, which is initialized
+     * by the configuration key "action.math.events"
+     *
+     * @param p_enabled flag that events are created
+     */
+    static void enabled( final boolean p_enabled )
+    {
+        s_enabled = p_enabled;
+    }
+
+}
@@ -23,30 +23,25 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
-import org.lightjason.agentspeak.language.execution.IContext;
-import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
-import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.DoubleUnaryOperator;
 
 
 /**
  * action for exponential value.
  * Calculate the exponential function \f$ e^{x_i} \f$
- * for each argument
+ * for each argument,
+ * "action.math.exp.approximate" enables a table approximation
  *
  * {@code [X|Y] = .math/exp(1,8);}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Exponential_function"></a>
  */
-public final class CExp extends IBaseAction
+public final class CExp extends IBaseUnaryAction
 {
     /**
      * serial id
@@ -56,6 +51,10 @@ public final class CExp extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CExp.class, "math" );
+    /**
+     * approximation flag
+     */
+    private static final boolean APPROXIMATE = CApproximation.enabled( "exp" );
 
     @Nonnull
     @Override
@@ -64,28 +63,11 @@ public final class CExp extends IBaseAction
         return NAME;
     }
 
-    @Nonnegative
-    @Override
-    public int minimalArgumentNumber()
-    {
-        return 1;
-    }
-
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
-    )
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToDouble( Number::doubleValue )
-               .boxed()
-               .map( Math::exp )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
-
-        return Stream.empty();
+        return APPROXIMATE ? CApproximation::exp : Math::exp;
     }
 
 }
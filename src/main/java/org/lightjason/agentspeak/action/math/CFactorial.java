@@ -23,10 +23,7 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.apache.commons.math3.util.CombinatoricsUtils;
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -34,20 +31,29 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntToDoubleFunction;
 import java.util.stream.Stream;
 
 
 /**
  * action for calculating factorial.
  * Creates the factorial \f$ ! x_i \f$ for all
- * unflattern arguments
+ * unflattern arguments, an optional leading string
+ * argument sets the result mode "exact", "double",
+ * "log" or "biginteger", exact values up to 20! and
+ * floating-point values up to 170! are read from tables,
+ * "biginteger" results are memoized with the cache size
+ * "action.math.factorial.memoization"
  *
  * {@code [A|B|C|D|E] = .math/factorial( 5, [[1,2], 3,4]);}
+ * {@code [L1|L2] = .math/factorial( "log", 1000, 100000 );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Factorial"></a>
  */
-public final class CFactorial extends IBaseAction
+public final class CFactorial extends IBaseMathAction
 {
     /**
      * serial id
@@ -57,6 +63,10 @@ public final class CFactorial extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CFactorial.class, "math" );
+    /**
+     * memoization of arbitrary-precision factorials
+     */
+    private static final CMemoization<BigInteger> MEMOIZATION = CMemoization.of( "factorial" );
 
     @Nonnull
     @Override
@@ -74,17 +84,38 @@ public final class CFactorial extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToInt( Number::intValue )
-               .boxed()
-               .map( CombinatoricsUtils::factorial )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final ECombinatoricsMode l_mode = ECombinatoricsMode.of( p_argument );
+        final double[] l_values = CMathCommon.flatten( ECombinatoricsMode.arguments( p_argument ) );
+        CMathCommon.reserve( p_return, l_values.length );
+
+        switch ( l_mode )
+        {
+            case BIGINTEGER:
+                for ( final double i : l_values )
+                    p_return.add( CRawTerm.of( MEMOIZATION.get( (int) i, j -> CCombinatorics.factorialbig( p_parallel, (int) j ) ) ) );
+                break;
+
+            case DOUBLE:
+            case LOG:
+                final IntToDoubleFunction l_kernel = l_mode == ECombinatoricsMode.LOG ? CCombinatorics::factoriallog : CCombinatorics::factorialdouble;
+                if ( CMathCommon.parallel( p_parallel, l_values.length ) )
+                    Arrays.parallelSetAll( l_values, i -> l_kernel.applyAsDouble( (int) l_values[i] ) );
+                else
+                    for ( int i = 0; i < l_values.length; i++ )
+                        l_values[i] = l_kernel.applyAsDouble( (int) l_values[i] );
+
+                for ( final double i : l_values )
+                    p_return.add( CTermCache.of( i ) );
+                break;
+
+            default:
+                for ( final double i : l_values )
+                    p_return.add( CTermCache.of( CCombinatorics.factorial( (int) i ) ) );
+        }
 
         return Stream.empty();
     }
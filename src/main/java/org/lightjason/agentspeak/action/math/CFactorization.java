@@ -0,0 +1,283 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * prime factorization of long values.
+ * Numbers below the bound "action.math.primefactors.bound" are
+ * split by a shared table of the smallest prime factors, larger
+ * numbers are split by trial division with small primes and the
+ * Pollard-Brent rho method, the factors are checked with the
+ * deterministic Miller-Rabin test
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Pollard%27s_rho_algorithm#Variants"></a>
+ * @see <a href="https://maths-people.anu.edu.au/~brent/pd/rpb051i.pdf"></a>
+ */
+final class CFactorization
+{
+    /**
+     * exclusive upper bound of the smallest prime factor table
+     */
+    static final int BOUND = Math.max( 1 << 8, Math.min( Integer.MAX_VALUE - 8, CConfiguration.integer( "primefactors.bound", 1 << 20 ) ) );
+    /**
+     * largest prime of the trial division
+     */
+    private static final int TRIALDIVISION = 211;
+    /**
+     * number of steps between two gcd calculations
+     */
+    private static final int BATCH = 128;
+
+    /**
+     * ctor
+     */
+    private CFactorization()
+    {
+    }
+
+
+    /**
+     * factorizes a number
+     *
+     * @param p_value number greater than one
+     * @return prime factors
+     */
+    @Nonnull
+    static CPrimeFactorList factorize( final long p_value )
+    {
+        if ( p_value < 2 )
+            throw new MathIllegalArgumentException( LocalizedFormats.NUMBER_TOO_SMALL, p_value, 2 );
+
+        final long[] l_factors = new long[Long.SIZE];
+        int l_size = 0;
+
+        final int l_twos = Long.numberOfTrailingZeros( p_value );
+        for ( ; l_size < l_twos; l_size++ )
+            l_factors[l_size] = 2;
+
+        long l_value = p_value >>> l_twos;
+        for ( int i = 3; i <= TRIALDIVISION && l_value >= BOUND; i += 2 )
+            for ( ; l_value % i == 0; l_value /= i )
+                l_factors[l_size++] = i;
+
+        l_size = split( l_value, l_factors, l_size );
+        Arrays.sort( l_factors, 0, l_size );
+        return CPrimeFactorList.of( l_factors, l_size );
+    }
+
+
+    /**
+     * splits an odd number into prime factors
+     *
+     * @param p_value odd number
+     * @param p_factors factor buffer
+     * @param p_size number of factors within the buffer
+     * @return new number of factors
+     */
+    private static int split( final long p_value, @Nonnull final long[] p_factors, @Nonnegative final int p_size )
+    {
+        if ( p_value == 1 )
+            return p_size;
+
+        int l_size = p_size;
+        if ( p_value < BOUND )
+        {
+            final int[] l_table = CTable.SMALLESTFACTOR;
+            for ( int l_value = (int) p_value; l_value > 1; l_value /= l_table[l_value] )
+                p_factors[l_size++] = l_table[l_value];
+            return l_size;
+        }
+
+        if ( CMillerRabin.isprime( p_value ) )
+        {
+            p_factors[l_size++] = p_value;
+            return l_size;
+        }
+
+        final long l_divisor = rho( p_value );
+        return split( p_value / l_divisor, p_factors, split( l_divisor, p_factors, l_size ) );
+    }
+
+    /**
+     * finds a non-trivial divisor of an odd composite number
+     *
+     * @param p_value odd composite number
+     * @return divisor
+     */
+    private static long rho( final long p_value )
+    {
+        final long l_inverse = CMillerRabin.inverse( p_value );
+        for ( long l_constant = 1; ; l_constant++ )
+        {
+            final long l_divisor = brent( p_value, l_inverse, l_constant );
+            if ( l_divisor != p_value )
+                return l_divisor;
+        }
+    }
+
+    /**
+     * Pollard-Brent rho with batched gcd calculations in montgomery space
+     *
+     * @param p_value odd composite number
+     * @param p_inverse negative inverse of the number
+     * @param p_constant constant of the polynomial \f$ x^2 + c \f$
+     * @return divisor, which can be the number itself
+     */
+    private static long brent( final long p_value, final long p_inverse, final long p_constant )
+    {
+        long l_x = 0;
+        long l_y = 2;
+        long l_saved = l_y;
+        long l_product = Long.remainderUnsigned( -p_value, p_value );
+        long l_gcd = 1;
+
+        for ( int l_range = 1; l_gcd == 1; l_range <<= 1 )
+        {
+            l_x = l_y;
+            for ( int i = 0; i < l_range; i++ )
+                l_y = step( l_y, p_value, p_inverse, p_constant );
+
+            for ( int k = 0; k < l_range && l_gcd == 1; k += BATCH )
+            {
+                l_saved = l_y;
+                for ( int i = 0; i < Math.min( BATCH, l_range - k ); i++ )
+                {
+                    l_y = step( l_y, p_value, p_inverse, p_constant );
+                    l_product = CMillerRabin.multiply( l_product, Math.abs( l_x - l_y ), p_value, p_inverse );
+                }
+                l_gcd = gcd( l_product, p_value );
+            }
+        }
+
+        if ( l_gcd != p_value )
+            return l_gcd;
+
+        // the batch has collected all factors, so the steps are repeated one by one
+        do
+        {
+            l_saved = step( l_saved, p_value, p_inverse, p_constant );
+            l_gcd = gcd( Math.abs( l_x - l_saved ), p_value );
+        } while ( l_gcd == 1 );
+
+        return l_gcd;
+    }
+
+    /**
+     * polynomial step \f$ y^2 + c \mod n \f$
+     *
+     * @param p_value current value
+     * @param p_modulus modulus
+     * @param p_inverse negative inverse of the modulus
+     * @param p_constant constant
+     * @return next value
+     */
+    private static long step( final long p_value, final long p_modulus, final long p_inverse, final long p_constant )
+    {
+        final long l_value = CMillerRabin.multiply( p_value, p_value, p_modulus, p_inverse ) + p_constant;
+        return l_value < 0 || l_value >= p_modulus ? l_value - p_modulus : l_value;
+    }
+
+    /**
+     * binary greatest common divisor
+     *
+     * @param p_left non-negative value
+     * @param p_right positive value
+     * @return greatest common divisor
+     */
+    private static long gcd( final long p_left, final long p_right )
+    {
+        if ( p_left == 0 )
+            return p_right;
+
+        long l_left = p_left;
+        long l_right = p_right;
+        final int l_shift = Long.numberOfTrailingZeros( l_left | l_right );
+        l_left >>>= Long.numberOfTrailingZeros( l_left );
+
+        while ( l_right != 0 )
+        {
+            l_right >>>= Long.numberOfTrailingZeros( l_right );
+            if ( l_left > l_right )
+            {
+                final long l_swap = l_left;
+                l_left = l_right;
+                l_right = l_swap;
+            }
+            l_right -= l_left;
+        }
+
+        return l_left << l_shift;
+    }
+
+
+    /**
+     * lazily created table of the smallest prime factors
+     */
+    private static final class CTable
+    {
+        /**
+         * smallest prime factor of each number below the bound
+         */
+        static final int[] SMALLESTFACTOR = sieve( BOUND );
+
+        /**
+         * ctor
+         */
+        private CTable()
+        {
+        }
+
+        /**
+         * creates the table by a sieve
+         *
+         * @param p_bound exclusive upper bound
+         * @return table
+         */
+        @Nonnull
+        private static int[] sieve( @Nonnegative final int p_bound )
+        {
+            final int[] l_table = new int[p_bound];
+            for ( int i = 2; i < p_bound; i++ )
+            {
+                if ( l_table[i] != 0 )
+                    continue;
+
+                l_table[i] = i;
+                for ( long j = (long) i * i; j < p_bound; j += i )
+                    if ( l_table[(int) j] == 0 )
+                        l_table[(int) j] = i;
+            }
+            return l_table;
+        }
+    }
+
+}
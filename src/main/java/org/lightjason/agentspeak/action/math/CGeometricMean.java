@@ -23,9 +23,7 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -34,19 +32,21 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 import java.util.stream.Stream;
 
 
 /**
  * action for geometric mean.
  * The action calculates \f$ \sqrt[i]{\prod_{i} x_i} \f$
- * over all unflatten arguments
+ * over all unflatten arguments, the product is calculated
+ * in log space, so large inputs do not overflow
  *
  * {@code G = .math/geometricmean( 1, 3, 9, [10, [11, 12]] );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Average"></a>
  */
-public final class CGeometricMean extends IBaseAction
+public final class CGeometricMean extends IBaseMathAction
 {
     /**
      * serial id
@@ -73,39 +73,77 @@ public final class CGeometricMean extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        p_return.add(
-            CRawTerm.of(
-                CGeometricMean.apply(
-                    CCommon.flatten( p_argument ).count(),
-                    CCommon.flatten( p_argument )
-                           .map( ITerm::<Number>raw )
-                           .mapToDouble( Number::doubleValue )
-                           .boxed()
-                )
-            )
-        );
-
+        p_return.add( CRawTerm.of( CMathCommon.collect( p_parallel, p_argument, CAccumulator::new, CAccumulator::combine ).get() ) );
         return Stream.empty();
     }
 
 
     /**
-     * calculate geometric-mean
-     *
-     * @param p_count number of elements
-     * @param p_values value stream
-     * @return geometric mean
+     * single-pass accumulator of the geometric mean, the product
+     * is accumulated in log space to avoid overflow and underflow
      */
-    private static double apply( final double p_count, @Nonnull final Stream<Double> p_values )
+    private static final class CAccumulator implements DoubleConsumer
     {
-        return Math.pow(
-            p_values.reduce( 1.0, ( i, j ) -> i * j ),
-            1.0 / p_count
-        );
+        /**
+         * number of values
+         */
+        private long m_count;
+        /**
+         * number of negative values
+         */
+        private long m_negative;
+        /**
+         * sum of the logarithm of the absolute values
+         */
+        private final ESummation.IAccumulator m_logsum = ESummation.DEFAULT.accumulator();
+
+        @Override
+        public void accept( final double p_value )
+        {
+            m_count++;
+            m_logsum.accept( Math.log( Math.abs( p_value ) ) );
+            if ( p_value < 0 )
+                m_negative++;
+        }
+
+        /**
+         * combines two accumulators
+         *
+         * @param p_accumulator other accumulator
+         */
+        public void combine( @Nonnull final CAccumulator p_accumulator )
+        {
+            m_count += p_accumulator.m_count;
+            m_negative += p_accumulator.m_negative;
+            m_logsum.combine( p_accumulator.m_logsum );
+        }
+
+        /**
+         * returns the geometric mean, a negative product
+         * has only a real root for a single value, a zero
+         * product has a zero root independent of the sign
+         *
+         * @return geometric mean or NaN for empty input
+         */
+        public double get()
+        {
+            if ( m_count == 0 )
+                return Double.NaN;
+
+            final double l_logsum = m_logsum.get();
+            if ( l_logsum == Double.NEGATIVE_INFINITY )
+                return 0;
+
+            final double l_value = Math.exp( l_logsum / m_count );
+            if ( m_negative % 2 == 0 )
+                return l_value;
+
+            return m_count == 1 ? -l_value : Double.NaN;
+        }
     }
 
 }
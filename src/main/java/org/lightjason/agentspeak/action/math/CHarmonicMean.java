@@ -23,9 +23,7 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -34,6 +32,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.function.DoubleConsumer;
 import java.util.stream.Stream;
 
 
@@ -46,7 +45,7 @@ import java.util.stream.Stream;
  *
  * @see <a href="https://en.wikipedia.org/wiki/Average"></a>
  */
-public final class CHarmonicMean extends IBaseAction
+public final class CHarmonicMean extends IBaseMathAction
 {
     /**
      * serial id
@@ -73,36 +72,56 @@ public final class CHarmonicMean extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        p_return.add(
-            CRawTerm.of(
-                CHarmonicMean.apply(
-                    CCommon.flatten( p_argument ).count(),
-                    CCommon.flatten( p_argument )
-                           .map( ITerm::<Number>raw )
-                           .mapToDouble( Number::doubleValue )
-                           .boxed()
-                )
-            )
-        );
-
+        p_return.add( CRawTerm.of( CMathCommon.collect( p_parallel, p_argument, CAccumulator::new, CAccumulator::combine ).get() ) );
         return Stream.empty();
     }
 
 
     /**
-     * calculate harmonic mean
-     *
-     * @param p_count number of elements
-     * @param p_values value stream
-     * @return harmonic mean
+     * single-pass accumulator of the harmonic mean
      */
-    private static double apply( final double p_count, final Stream<Double> p_values )
+    private static final class CAccumulator implements DoubleConsumer
     {
-        return p_count / p_values.mapToDouble( i -> 1.0 / i ).sum();
+        /**
+         * number of values
+         */
+        private long m_count;
+        /**
+         * sum of the reciprocal values
+         */
+        private final ESummation.IAccumulator m_sum = ESummation.DEFAULT.accumulator();
+
+        @Override
+        public void accept( final double p_value )
+        {
+            m_count++;
+            m_sum.accept( 1.0 / p_value );
+        }
+
+        /**
+         * combines two accumulators
+         *
+         * @param p_accumulator other accumulator
+         */
+        public void combine( @Nonnull final CAccumulator p_accumulator )
+        {
+            m_count += p_accumulator.m_count;
+            m_sum.combine( p_accumulator.m_sum );
+        }
+
+        /**
+         * returns the harmonic mean
+         *
+         * @return harmonic mean
+         */
+        public double get()
+        {
+            return m_count / m_sum.get();
+        }
     }
 
 }
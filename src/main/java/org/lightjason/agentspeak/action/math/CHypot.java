@@ -23,11 +23,8 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import com.codepoetics.protonpack.StreamUtils;
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -35,6 +32,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -44,9 +42,9 @@ import java.util.stream.Stream;
  * Calculates for each pair of arguments \f$ \sqrt{ x_{i}^{2} + y_{i}^{2} } \f$ and
  * fail iif the number of arguments are odd, it unflats all list elements
  *
- * {@code [A|B|C] = .math/hypot( 1, [2, [3]], [4, 5]);}
+ * {@code [A|B|C] = .math/hypot( 1, [2, [3]], [4, 5, 6]);}
  */
-public final class CHypot extends IBaseAction
+public final class CHypot extends IBaseMathAction
 {
     /**
      * serial id
@@ -73,23 +71,27 @@ public final class CHypot extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        if ( p_argument.size() % 2 == 1 )
+        final double[] l_values = CMathCommon.flatten( p_argument );
+        if ( l_values.length % 2 == 1 )
             throw new CExecutionIllegealArgumentException(
                 p_context,
                 org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentsnoteven" )
             );
 
-        StreamUtils.windowed( CCommon.flatten( p_argument ), 2, 2 )
-                   .map( i -> Math.hypot(
-                       i.get( 0 ).<Number>raw().doubleValue(),
-                       i.get( 1 ).<Number>raw().doubleValue()
-                   ) )
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        final double[] l_result = new double[l_values.length / 2];
+        if ( CMathCommon.parallel( p_parallel, l_result.length ) )
+            Arrays.parallelSetAll( l_result, i -> Math.hypot( l_values[2 * i], l_values[2 * i + 1] ) );
+        else
+            for ( int i = 0; i < l_result.length; i++ )
+                l_result[i] = Math.hypot( l_values[2 * i], l_values[2 * i + 1] );
+
+        CMathCommon.reserve( p_return, l_result.length );
+        for ( final double i : l_result )
+            p_return.add( CRawTerm.of( i ) );
 
         return Stream.empty();
     }
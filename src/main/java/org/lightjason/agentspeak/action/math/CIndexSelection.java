@@ -0,0 +1,338 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+
+/**
+ * primitive index selection of maximum and minimum values.
+ * Single indices are selected in one pass, on parallel execution
+ * the values are split into chunks and the chunk results are combined
+ * in order, the k best indices are selected with a bounded binary heap.
+ * On equal values the maximum selection prefers the first index and
+ * the minimum selection the last index
+ */
+final class CIndexSelection
+{
+
+    /**
+     * ctor
+     */
+    private CIndexSelection()
+    {
+    }
+
+
+    /**
+     * returns the index of the maximum
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_values values
+     * @return index or -1 on empty values
+     */
+    static int argmax( final boolean p_parallel, @Nonnull final double[] p_values )
+    {
+        return select( p_parallel, p_values, true );
+    }
+
+    /**
+     * returns the index of the minimum
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_values values
+     * @return index or -1 on empty values
+     */
+    static int argmin( final boolean p_parallel, @Nonnull final double[] p_values )
+    {
+        return select( p_parallel, p_values, false );
+    }
+
+    /**
+     * returns the indices of the k best values, NaN values are ignored
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_values values
+     * @param p_number number of indices
+     * @param p_maximum maximum or minimum flag
+     * @return indices ordered by their rank
+     */
+    @Nonnull
+    static int[] top( final boolean p_parallel, @Nonnull final double[] p_values, final int p_number, final boolean p_maximum )
+    {
+        if ( p_number <= 0 || p_values.length == 0 )
+            return new int[0];
+
+        if ( !CMathCommon.parallel( p_parallel, p_values.length ) )
+            return new CHeap( p_values, p_number, p_maximum ).addrange( 0, p_values.length ).sorted();
+
+        final int l_chunk = chunk( p_values.length );
+        return IntStream.range( 0, ( p_values.length + l_chunk - 1 ) / l_chunk )
+                        .parallel()
+                        .mapToObj( i -> new CHeap( p_values, p_number, p_maximum ).addrange( i * l_chunk, Math.min( p_values.length, ( i + 1 ) * l_chunk ) ) )
+                        .reduce( CHeap::addheap )
+                        .orElseThrow()
+                        .sorted();
+    }
+
+
+    /**
+     * selects a single index
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_values values
+     * @param p_maximum maximum or minimum flag
+     * @return index or -1 on empty values
+     */
+    private static int select( final boolean p_parallel, @Nonnull final double[] p_values, final boolean p_maximum )
+    {
+        if ( p_values.length == 0 )
+            return -1;
+        if ( !CMathCommon.parallel( p_parallel, p_values.length ) )
+            return fold( p_values, 0, p_values.length, p_maximum );
+
+        final int l_chunk = chunk( p_values.length );
+        return IntStream.range( 0, ( p_values.length + l_chunk - 1 ) / l_chunk )
+                        .parallel()
+                        .map( i -> fold( p_values, i * l_chunk, Math.min( p_values.length, ( i + 1 ) * l_chunk ), p_maximum ) )
+                        .reduce( ( i, j ) -> replace( p_values, i, j, p_maximum ) ? j : i )
+                        .orElseThrow();
+    }
+
+    /**
+     * selects a single index of a range
+     *
+     * @param p_values values
+     * @param p_from inclusive start index
+     * @param p_to exclusive end index
+     * @param p_maximum maximum or minimum flag
+     * @return index
+     */
+    private static int fold( @Nonnull final double[] p_values, @Nonnegative final int p_from, @Nonnegative final int p_to, final boolean p_maximum )
+    {
+        int l_index = p_from;
+        for ( int i = p_from + 1; i < p_to; i++ )
+            if ( replace( p_values, l_index, i, p_maximum ) )
+                l_index = i;
+        return l_index;
+    }
+
+    /**
+     * checks if the current index is replaced by a following index
+     *
+     * @param p_values values
+     * @param p_current current index
+     * @param p_next following index
+     * @param p_maximum maximum or minimum flag
+     * @return replace flag
+     */
+    private static boolean replace( @Nonnull final double[] p_values, final int p_current, final int p_next, final boolean p_maximum )
+    {
+        return p_maximum == p_values[p_current] < p_values[p_next];
+    }
+
+    /**
+     * returns the chunk size of the parallel execution
+     *
+     * @param p_size number of values
+     * @return chunk size
+     */
+    @Nonnegative
+    private static int chunk( @Nonnegative final int p_size )
+    {
+        return Math.max( CMathCommon.BLOCKSIZE, p_size / ( 4 * ForkJoinPool.getCommonPoolParallelism() ) + 1 );
+    }
+
+
+    /**
+     * bounded binary heap of indices, the root
+     * is the worst index of the heap
+     */
+    private static final class CHeap
+    {
+        /**
+         * values
+         */
+        private final double[] m_values;
+        /**
+         * maximum or minimum flag
+         */
+        private final boolean m_maximum;
+        /**
+         * heap indices
+         */
+        private final int[] m_heap;
+        /**
+         * number of heap elements
+         */
+        private int m_size;
+
+        /**
+         * ctor
+         *
+         * @param p_values values
+         * @param p_capacity capacity
+         * @param p_maximum maximum or minimum flag
+         */
+        CHeap( @Nonnull final double[] p_values, @Nonnegative final int p_capacity, final boolean p_maximum )
+        {
+            m_values = p_values;
+            m_maximum = p_maximum;
+            m_heap = new int[Math.min( p_capacity, p_values.length )];
+        }
+
+        /**
+         * adds a range of indices
+         *
+         * @param p_from inclusive start index
+         * @param p_to exclusive end index
+         * @return self reference
+         */
+        @Nonnull
+        CHeap addrange( @Nonnegative final int p_from, @Nonnegative final int p_to )
+        {
+            for ( int i = p_from; i < p_to; i++ )
+                this.add( i );
+            return this;
+        }
+
+        /**
+         * adds the indices of another heap
+         *
+         * @param p_heap heap
+         * @return self reference
+         */
+        @Nonnull
+        CHeap addheap( @Nonnull final CHeap p_heap )
+        {
+            for ( int i = 0; i < p_heap.m_size; i++ )
+                this.add( p_heap.m_heap[i] );
+            return this;
+        }
+
+        /**
+         * returns the indices ordered by their rank
+         *
+         * @return indices
+         */
+        @Nonnull
+        int[] sorted()
+        {
+            final int[] l_result = new int[m_size];
+            for ( int i = m_size - 1; i >= 0; i-- )
+            {
+                l_result[i] = m_heap[0];
+                m_heap[0] = m_heap[--m_size];
+                this.down( 0 );
+            }
+            return l_result;
+        }
+
+        /**
+         * adds an index
+         *
+         * @param p_index index
+         */
+        private void add( final int p_index )
+        {
+            if ( Double.isNaN( m_values[p_index] ) )
+                return;
+
+            if ( m_size < m_heap.length )
+            {
+                m_heap[m_size] = p_index;
+                this.up( m_size++ );
+            }
+            else if ( m_size > 0 && this.better( p_index, m_heap[0] ) )
+            {
+                m_heap[0] = p_index;
+                this.down( 0 );
+            }
+        }
+
+        /**
+         * moves a heap element to the root
+         *
+         * @param p_position heap position
+         */
+        private void up( final int p_position )
+        {
+            final int l_index = m_heap[p_position];
+            int l_position = p_position;
+            while ( l_position > 0 )
+            {
+                final int l_parent = ( l_position - 1 ) >>> 1;
+                if ( !this.better( m_heap[l_parent], l_index ) )
+                    break;
+                m_heap[l_position] = m_heap[l_parent];
+                l_position = l_parent;
+            }
+            m_heap[l_position] = l_index;
+        }
+
+        /**
+         * moves a heap element to the leaves
+         *
+         * @param p_position heap position
+         */
+        private void down( final int p_position )
+        {
+            if ( m_size == 0 )
+                return;
+
+            final int l_index = m_heap[p_position];
+            int l_position = p_position;
+            for ( int l_child = 2 * l_position + 1; l_child < m_size; l_child = 2 * l_position + 1 )
+            {
+                if ( l_child + 1 < m_size && this.better( m_heap[l_child], m_heap[l_child + 1] ) )
+                    l_child++;
+                if ( !this.better( l_index, m_heap[l_child] ) )
+                    break;
+                m_heap[l_position] = m_heap[l_child];
+                l_position = l_child;
+            }
+            m_heap[l_position] = l_index;
+        }
+
+        /**
+         * compares two indices
+         *
+         * @param p_left left index
+         * @param p_right right index
+         * @return true if the left index has a better rank
+         */
+        private boolean better( final int p_left, final int p_right )
+        {
+            final double l_left = m_values[p_left];
+            final double l_right = m_values[p_right];
+            if ( l_left != l_right )
+                return m_maximum == l_left > l_right;
+            return m_maximum == p_left < p_right;
+        }
+    }
+
+}
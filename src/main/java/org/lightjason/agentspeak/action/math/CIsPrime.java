@@ -23,11 +23,7 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.apache.commons.math3.primes.Primes;
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -35,20 +31,25 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 /**
  * action for checking for a prime number.
  * Checks for all unflatten arguments if the number is a prime number
- * and returns a boolean of this check
+ * and returns a boolean of this check, numbers below the sieve bound
+ * are looked up in a shared prime sieve, larger numbers up to
+ * \f$ 2^{63} - 1 \f$ are checked with a deterministic Miller-Rabin test
+ * and memoized, the cache size is set by "action.math.isprime.memoization"
  *
  * {@code [P1|P2] = .math/isprime(3, 4);}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Prime_number"></a>
  * @see <a href="https://en.wikipedia.org/wiki/Primality_test"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Miller%E2%80%93Rabin_primality_test"></a>
  */
-public final class CIsPrime extends IBaseAction
+public final class CIsPrime extends IBaseMathAction
 {
     /**
      * serial id
@@ -58,6 +59,10 @@ public final class CIsPrime extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CIsPrime.class, "math" );
+    /**
+     * memoization of numbers above the sieve bound
+     */
+    private static final CMemoization<Boolean> MEMOIZATION = CMemoization.of( "isprime" );
 
     @Nonnull
     @Override
@@ -75,17 +80,35 @@ public final class CIsPrime extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .map( i -> Primes.isPrime( i.intValue() ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final long[] l_values = CMathCommon.flattenlong( p_argument );
+        final boolean[] l_result = new boolean[l_values.length];
+
+        if ( CMathCommon.parallel( p_parallel, l_values.length ) )
+            IntStream.range( 0, l_values.length ).parallel().forEach( i -> l_result[i] = isprime( l_values[i] ) );
+        else
+            for ( int i = 0; i < l_values.length; i++ )
+                l_result[i] = isprime( l_values[i] );
+
+        CMathCommon.reserve( p_return, l_result.length );
+        for ( final boolean i : l_result )
+            p_return.add( CTermCache.of( i ) );
 
         return Stream.empty();
     }
 
+    /**
+     * checks a number, numbers above the sieve bound are memoized
+     *
+     * @param p_value number
+     * @return prime flag
+     */
+    private static boolean isprime( final long p_value )
+    {
+        return p_value < CPrimeSieve.BOUND ? CPrimeSieve.isprime( p_value ) : MEMOIZATION.get( p_value, CPrimeSieve::isprime );
+    }
+
 }
@@ -23,31 +23,26 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
-import org.lightjason.agentspeak.language.execution.IContext;
-import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
-import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.DoubleUnaryOperator;
 
 
 /**
  * action for logarithm value.
  * Calculates the natural logarithm \f$ log( x_i ) \f$
- * for each unflatten argument
+ * for each unflatten argument,
+ * "action.math.log.approximate" enables a table approximation
  *
  * {@code [A|B|C] = .math/log( [1,2], 3 );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Natural_logarithm"></a>
  * @see <a href="https://en.wikipedia.org/wiki/Logarithm"></a>
  */
-public final class CLog extends IBaseAction
+public final class CLog extends IBaseUnaryAction
 {
     /**
      * serial id
@@ -57,6 +52,10 @@ public final class CLog extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CLog.class, "math" );
+    /**
+     * approximation flag
+     */
+    private static final boolean APPROXIMATE = CApproximation.enabled( "log" );
 
     @Nonnull
     @Override
@@ -65,28 +64,11 @@ public final class CLog extends IBaseAction
         return NAME;
     }
 
-    @Nonnegative
-    @Override
-    public int minimalArgumentNumber()
-    {
-        return 1;
-    }
-
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
-    )
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToDouble( Number::doubleValue )
-               .boxed()
-               .map( Math::log )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
-
-        return Stream.empty();
+        return APPROXIMATE ? CApproximation::log : Math::log;
     }
 
 }
@@ -0,0 +1,90 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import java.util.stream.IntStream;
+
+
+/**
+ * lookup table of the logistic function \f$ \sigma(x) = \frac{1}{1 + e^{-x}} \f$.
+ * The table stores the function on \f$ [-16, 16] \f$ with the step size
+ * \f$ h = \frac{1}{128} \f$ and interpolates linearly, outside of the range
+ * zero and one are returned. The interpolation error is bounded by
+ * \f$ \frac{h^2}{8} \max |\sigma''| \approx 7.3 \cdot 10^{-7} \f$ and the
+ * clipping error by \f$ \sigma(-16) \approx 1.1 \cdot 10^{-7} \f$, so the
+ * absolute error is less than \f$ 7.5 \cdot 10^{-7} \f$
+ */
+final class CLogisticTable
+{
+    /**
+     * maximum absolute error of the approximation
+     */
+    static final double MAXIMUMERROR = 7.5e-7;
+    /**
+     * range of the table
+     */
+    private static final double RANGE = 16;
+    /**
+     * steps per unit
+     */
+    private static final double STEPS = 128;
+    /**
+     * last table position
+     */
+    private static final int LAST = (int) ( 2 * RANGE * STEPS );
+    /**
+     * function values
+     */
+    private static final double[] TABLE = IntStream.rangeClosed( 0, LAST ).mapToDouble( i -> 1 / ( 1 + Math.exp( RANGE - i / STEPS ) ) ).toArray();
+
+    /**
+     * ctor
+     */
+    private CLogisticTable()
+    {
+    }
+
+
+    /**
+     * approximates the logistic function
+     *
+     * @param p_value value
+     * @return approximated function value
+     */
+    static double logistic( final double p_value )
+    {
+        final double l_position = ( p_value + RANGE ) * STEPS;
+        if ( l_position >= LAST )
+            return 1;
+        if ( l_position <= 0 )
+            return 0;
+        if ( Double.isNaN( l_position ) )
+            return l_position;
+
+        final int l_index = (int) l_position;
+        final double l_left = TABLE[l_index];
+        return l_left + ( l_position - l_index ) * ( TABLE[l_index + 1] - l_left );
+    }
+
+}
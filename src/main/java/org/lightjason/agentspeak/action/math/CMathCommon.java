@@ -0,0 +1,417 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+
+/**
+ * common structures for math actions, which
+ * unpacks the nested argument lists into primitive arrays
+ */
+final class CMathCommon
+{
+    /**
+     * minimal number of elements for parallel execution
+     */
+    static final int PARALLELTHRESHOLD = CConfiguration.integer( "parallel.threshold", 16384 );
+    /**
+     * block size of parallel reductions
+     */
+    static final int BLOCKSIZE = 4096;
+    /**
+     * vector backend
+     */
+    static final IVectorBackend VECTORBACKEND = vectorbackend(
+        CConfiguration.string( "backend", "scalar" ), CMathCommon.class.getPackageName() + ".CVectorBackend"
+    );
+    /**
+     * packed result flag
+     */
+    static final boolean PACKED = CConfiguration.bool( "packed", false );
+
+    /**
+     * ctor
+     */
+    private CMathCommon()
+    {
+    }
+
+
+    /**
+     * flattens the arguments into a primitive array,
+     * the array is presized with the number of all
+     * unflatten elements and filled in a single pass
+     *
+     * @param p_argument arguments
+     * @return array with all values
+     */
+    @Nonnull
+    static double[] flatten( @Nonnull final Collection<?> p_argument )
+    {
+        final double[] l_values = new double[size( p_argument )];
+        fill( p_argument, l_values, 0 );
+        return l_values;
+    }
+
+    /**
+     * returns the value of a single scalar argument,
+     * so single-value calls need neither an array
+     * nor a stream
+     *
+     * @param p_argument arguments
+     * @return number or null if the arguments are not a single scalar
+     */
+    @Nullable
+    static Number scalar( @Nonnull final List<?> p_argument )
+    {
+        if ( p_argument.size() != 1 )
+            return null;
+
+        final Object l_value = raw( p_argument.get( 0 ) );
+        if ( !( l_value instanceof Number ) )
+            return null;
+
+        EExecutionPath.record( EExecutionPath.SCALAR );
+        return (Number) l_value;
+    }
+
+    /**
+     * flattens the arguments into a primitive long array
+     * without a lossy conversion over double values
+     *
+     * @param p_argument arguments
+     * @return array with all values
+     */
+    @Nonnull
+    static long[] flattenlong( @Nonnull final Collection<?> p_argument )
+    {
+        final long[] l_values = new long[size( p_argument )];
+        fill( p_argument, l_values, 0 );
+        return l_values;
+    }
+
+    /**
+     * returns the number of all unflatten elements
+     *
+     * @param p_argument arguments
+     * @return number of elements
+     */
+    @Nonnegative
+    static int size( @Nonnull final Collection<?> p_argument )
+    {
+        int l_size = 0;
+        for ( final Object i : p_argument )
+        {
+            final Object l_value = raw( i );
+            if ( l_value instanceof CDoubleList )
+                l_size += ( (CDoubleList) l_value ).size();
+            else
+                l_size += l_value instanceof Collection<?> ? size( (Collection<?>) l_value ) : 1;
+        }
+        return l_size;
+    }
+
+    /**
+     * passes all unflatten values in a single pass
+     * to a consumer without creating an array
+     *
+     * @param p_argument arguments
+     * @param p_consumer value consumer
+     */
+    static void consume( @Nonnull final Collection<?> p_argument, @Nonnull final DoubleConsumer p_consumer )
+    {
+        for ( final Object i : p_argument )
+        {
+            final Object l_value = raw( i );
+            if ( l_value instanceof CDoubleList )
+                ( (CDoubleList) l_value ).doubleStream().forEach( p_consumer );
+            else if ( l_value instanceof Collection<?> )
+                consume( (Collection<?>) l_value, p_consumer );
+            else
+                p_consumer.accept( ( (Number) l_value ).doubleValue() );
+        }
+    }
+
+    /**
+     * collects all unflatten values into a combinable accumulator, sequential
+     * calls are run in a single pass over the arguments, parallel calls
+     * split the values and combine the partial accumulators
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_argument arguments
+     * @param p_supplier accumulator supplier
+     * @param p_combiner accumulator combiner
+     * @tparam T accumulator type
+     * @return accumulator
+     */
+    @Nonnull
+    static <T extends DoubleConsumer> T collect( final boolean p_parallel, @Nonnull final Collection<?> p_argument,
+                                                 @Nonnull final Supplier<T> p_supplier, @Nonnull final BiConsumer<T, T> p_combiner )
+    {
+        if ( p_parallel )
+            return collect( true, flatten( p_argument ), p_supplier, p_combiner );
+
+        final T l_accumulator = p_supplier.get();
+        consume( p_argument, l_accumulator );
+        return l_accumulator;
+    }
+
+    /**
+     * collects an array into a combinable accumulator, parallel calls above the
+     * threshold split the array into blocks of a fixed size and combine the
+     * partial accumulators in block order, so the result is deterministic
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_values values
+     * @param p_supplier accumulator supplier
+     * @param p_combiner accumulator combiner
+     * @tparam T accumulator type
+     * @return accumulator
+     */
+    @Nonnull
+    static <T extends DoubleConsumer> T collect( final boolean p_parallel, @Nonnull final double[] p_values,
+                                                 @Nonnull final Supplier<T> p_supplier, @Nonnull final BiConsumer<T, T> p_combiner )
+    {
+        if ( !parallel( p_parallel, p_values.length ) )
+        {
+            final T l_accumulator = p_supplier.get();
+            for ( final double i : p_values )
+                l_accumulator.accept( i );
+            return l_accumulator;
+        }
+
+        final List<T> l_partial = IntStream.range( 0, ( p_values.length + BLOCKSIZE - 1 ) / BLOCKSIZE )
+                                           .parallel()
+                                           .mapToObj( i -> {
+                                               final T l_accumulator = p_supplier.get();
+                                               for ( int j = i * BLOCKSIZE; j < Math.min( p_values.length, ( i + 1 ) * BLOCKSIZE ); j++ )
+                                                   l_accumulator.accept( p_values[j] );
+                                               return l_accumulator;
+                                           } )
+                                           .collect( Collectors.toList() );
+
+        final T l_accumulator = l_partial.get( 0 );
+        l_partial.stream().skip( 1 ).forEach( i -> p_combiner.accept( l_accumulator, i ) );
+        return l_accumulator;
+    }
+
+    /**
+     * checks if the parallel execution is used
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_size number of elements
+     * @return true if the elements are processed by the fork-join pool,
+     * which is recorded as execution path
+     */
+    static boolean parallel( final boolean p_parallel, @Nonnegative final int p_size )
+    {
+        if ( !p_parallel || p_size < PARALLELTHRESHOLD )
+            return false;
+
+        EExecutionPath.record( EExecutionPath.PARALLEL );
+        return true;
+    }
+
+    /**
+     * returns a primitive stream of the values,
+     * which is parallel above the threshold
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_values values
+     * @return stream
+     */
+    @Nonnull
+    static DoubleStream stream( final boolean p_parallel, @Nonnull final double[] p_values )
+    {
+        return parallel( p_parallel, p_values.length ) ? Arrays.stream( p_values ).parallel() : Arrays.stream( p_values );
+    }
+
+    /**
+     * applies a vector operation in-place, on parallel
+     * execution the array is split into chunks
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_operation operation or null
+     * @param p_parameter operation parameter
+     * @param p_values values
+     * @return true if the operation was applied by the vector backend
+     */
+    static boolean vector( final boolean p_parallel, @Nullable final EVectorOperation p_operation, final double p_parameter,
+                           @Nonnull final double[] p_values )
+    {
+        return vector( VECTORBACKEND, p_parallel, p_operation, p_parameter, p_values );
+    }
+
+    /**
+     * applies a vector operation in-place with a backend,
+     * on parallel execution the array is split into chunks
+     *
+     * @param p_backend vector backend
+     * @param p_parallel parallel flag of the action call
+     * @param p_operation operation or null
+     * @param p_parameter operation parameter
+     * @param p_values values
+     * @return true if the operation was applied by the vector backend
+     */
+    static boolean vector( @Nonnull final IVectorBackend p_backend, final boolean p_parallel, @Nullable final EVectorOperation p_operation,
+                           final double p_parameter, @Nonnull final double[] p_values )
+    {
+        if ( Objects.isNull( p_operation ) || !p_backend.supports( p_operation ) )
+            return false;
+
+        if ( !parallel( p_parallel, p_values.length ) )
+        {
+            p_backend.apply( p_operation, p_parameter, p_values, 0, p_values.length );
+            EExecutionPath.record( EExecutionPath.VECTOR );
+            return true;
+        }
+
+        final int l_chunk = Math.max( PARALLELTHRESHOLD / 4, p_values.length / ( 4 * ForkJoinPool.getCommonPoolParallelism() ) + 1 );
+        IntStream.range( 0, ( p_values.length + l_chunk - 1 ) / l_chunk )
+                 .parallel()
+                 .forEach( i -> p_backend.apply( p_operation, p_parameter, p_values, i * l_chunk, Math.min( p_values.length, ( i + 1 ) * l_chunk ) ) );
+        EExecutionPath.record( EExecutionPath.VECTOR );
+        return true;
+    }
+
+    /**
+     * reserves space within the return list
+     *
+     * @param p_return return list
+     * @param p_size number of elements which will be added
+     */
+    static void reserve( @Nonnull final List<ITerm> p_return, @Nonnegative final int p_size )
+    {
+        if ( p_return instanceof ArrayList<?> )
+            ( (ArrayList<ITerm>) p_return ).ensureCapacity( p_return.size() + p_size );
+    }
+
+    /**
+     * loads the vector backend, which is selected by the
+     * configuration and falls back to the empty backend
+     * if the vector module is not available
+     *
+     * @param p_backend backend name
+     * @param p_class class name of the vector backend
+     * @return backend
+     */
+    @Nonnull
+    static IVectorBackend vectorbackend( @Nonnull final String p_backend, @Nonnull final String p_class )
+    {
+        if ( !"vector".equalsIgnoreCase( p_backend ) )
+            return IVectorBackend.EMPTY;
+
+        try
+        {
+            return (IVectorBackend) Class.forName( p_class ).getDeclaredConstructor().newInstance();
+        }
+        catch ( final ReflectiveOperationException | LinkageError l_exception )
+        {
+            return IVectorBackend.EMPTY;
+        }
+    }
+
+    /**
+     * fills the array recursive
+     *
+     * @param p_argument arguments
+     * @param p_values target array
+     * @param p_index start index
+     * @return next free index
+     */
+    @Nonnegative
+    private static int fill( @Nonnull final Collection<?> p_argument, @Nonnull final double[] p_values, @Nonnegative final int p_index )
+    {
+        int l_index = p_index;
+        for ( final Object i : p_argument )
+        {
+            final Object l_value = raw( i );
+            if ( l_value instanceof CDoubleList )
+                l_index = ( (CDoubleList) l_value ).copy( p_values, l_index );
+            else if ( l_value instanceof Collection<?> )
+                l_index = fill( (Collection<?>) l_value, p_values, l_index );
+            else
+                p_values[l_index++] = ( (Number) l_value ).doubleValue();
+        }
+        return l_index;
+    }
+
+    /**
+     * fills the long array recursively
+     *
+     * @param p_argument arguments
+     * @param p_values target array
+     * @param p_index start index
+     * @return next free index
+     */
+    @Nonnegative
+    private static int fill( @Nonnull final Collection<?> p_argument, @Nonnull final long[] p_values, @Nonnegative final int p_index )
+    {
+        int l_index = p_index;
+        for ( final Object i : p_argument )
+        {
+            final Object l_value = raw( i );
+            if ( l_value instanceof CDoubleList )
+            {
+                final CDoubleList l_list = (CDoubleList) l_value;
+                for ( int j = 0; j < l_list.size(); j++ )
+                    p_values[l_index++] = (long) l_list.value( j );
+            }
+            else if ( l_value instanceof Collection<?> )
+                l_index = fill( (Collection<?>) l_value, p_values, l_index );
+            else
+                p_values[l_index++] = ( (Number) l_value ).longValue();
+        }
+        return l_index;
+    }
+
+    /**
+     * unpacks a term
+     *
+     * @param p_value term or raw value
+     * @return raw value
+     */
+    private static Object raw( final Object p_value )
+    {
+        return p_value instanceof ITerm ? ( (ITerm) p_value ).<Object>raw() : p_value;
+    }
+
+}
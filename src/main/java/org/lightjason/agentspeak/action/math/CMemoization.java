@@ -0,0 +1,416 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * bounded memoization of a pure function with a long key.
+ * The cache is split into lock stripes, each stripe is a
+ * segmented LRU with a probationary segment for new entries
+ * and a protected segment of 80% for entries which are hit
+ * once again, so single queries cannot flush the frequent ones.
+ * The capacity is set by "action.math.<name>.memoization"
+ * and a capacity of zero disables the cache
+ *
+ * @tparam V value type
+ * @see <a href="https://en.wikipedia.org/wiki/Cache_replacement_policies#Segmented_LRU_(SLRU)"></a>
+ */
+public final class CMemoization<V>
+{
+    /**
+     * maximal number of stripes
+     */
+    private static final int STRIPES = 16;
+    /**
+     * minimal capacity of a stripe
+     */
+    private static final int STRIPECAPACITY = 64;
+    /**
+     * all caches
+     */
+    private static final Collection<CMemoization<?>> CACHES = new CopyOnWriteArrayList<>();
+    /**
+     * number of hits of the current thread
+     */
+    private static final ThreadLocal<long[]> THREADHITS = ThreadLocal.withInitial( () -> new long[1] );
+    /**
+     * name
+     */
+    private final String m_name;
+    /**
+     * capacity
+     */
+    private final int m_capacity;
+    /**
+     * stripes
+     */
+    private final List<CStripe<V>> m_stripes;
+    /**
+     * number of hits
+     */
+    private final LongAdder m_hits = new LongAdder();
+    /**
+     * number of misses
+     */
+    private final LongAdder m_misses = new LongAdder();
+    /**
+     * number of evictions
+     */
+    private final LongAdder m_evictions = new LongAdder();
+
+    /**
+     * ctor
+     *
+     * @param p_name name
+     * @param p_capacity capacity
+     */
+    private CMemoization( @Nonnull final String p_name, final int p_capacity )
+    {
+        m_name = p_name;
+        m_capacity = Math.max( 0, p_capacity );
+
+        final int l_stripes = Integer.highestOneBit( Math.max( 1, Math.min( STRIPES, m_capacity / STRIPECAPACITY ) ) );
+        m_stripes = IntStream.range( 0, m_capacity == 0 ? 0 : l_stripes )
+                             .mapToObj( i -> new CStripe<V>( ( m_capacity + l_stripes - 1 ) / l_stripes ) )
+                             .collect( Collectors.toUnmodifiableList() );
+    }
+
+    /**
+     * creates a cache with the configured capacity
+     *
+     * @param p_name name, which is used as configuration prefix
+     * @tparam T value type
+     * @return cache
+     */
+    @Nonnull
+    static <T> CMemoization<T> of( @Nonnull final String p_name )
+    {
+        final CMemoization<T> l_cache = of(
+            p_name,
+            CConfiguration.integer( p_name + ".memoization", CConfiguration.integer( "memoization", 4096 ) )
+        );
+        CACHES.add( l_cache );
+        return l_cache;
+    }
+
+    /**
+     * creates a cache with a fixed capacity,
+     * which is not part of the registered caches
+     *
+     * @param p_name name
+     * @param p_capacity capacity
+     * @tparam T value type
+     * @return cache
+     */
+    @Nonnull
+    static <T> CMemoization<T> of( @Nonnull final String p_name, final int p_capacity )
+    {
+        return new CMemoization<>( p_name, p_capacity );
+    }
+
+    /**
+     * returns all caches
+     *
+     * @return unmodifiable collection of caches
+     */
+    @Nonnull
+    public static Collection<CMemoization<?>> caches()
+    {
+        return Collections.unmodifiableCollection( CACHES );
+    }
+
+    /**
+     * returns the number of hits of all caches within
+     * the current thread, hits are only counted if the
+     * flight recorder events are enabled
+     *
+     * @return number of hits
+     */
+    @Nonnegative
+    static long threadhits()
+    {
+        return THREADHITS.get()[0];
+    }
+
+    /**
+     * creates a key of two integer arguments
+     *
+     * @param p_first first argument
+     * @param p_second second argument
+     * @return key
+     */
+    static long key( final int p_first, final int p_second )
+    {
+        return (long) p_first << Integer.SIZE | Integer.toUnsignedLong( p_second );
+    }
+
+    /**
+     * returns the cached value or calculates and caches it,
+     * the function is called without a lock, so concurrent
+     * misses of the same key can calculate the value twice
+     *
+     * @param p_key key
+     * @param p_function pure function
+     * @return value
+     */
+    @Nonnull
+    V get( final long p_key, @Nonnull final LongFunction<V> p_function )
+    {
+        if ( m_stripes.isEmpty() )
+            return p_function.apply( p_key );
+
+        final CStripe<V> l_stripe = m_stripes.get( (int) ( p_key * 0x9E3779B97F4A7C15L >>> 32 ) & ( m_stripes.size() - 1 ) );
+        final V l_value = l_stripe.get( p_key );
+        if ( l_value != null )
+        {
+            m_hits.increment();
+            if ( CExecutionEvent.enabled() )
+                THREADHITS.get()[0]++;
+            return l_value;
+        }
+
+        m_misses.increment();
+        final V l_result = p_function.apply( p_key );
+        if ( l_stripe.put( p_key, l_result ) )
+            m_evictions.increment();
+        return l_result;
+    }
+
+    /**
+     * returns the name
+     *
+     * @return name
+     */
+    @Nonnull
+    public String name()
+    {
+        return m_name;
+    }
+
+    /**
+     * returns the capacity
+     *
+     * @return capacity
+     */
+    @Nonnegative
+    public int capacity()
+    {
+        return m_capacity;
+    }
+
+    /**
+     * returns the number of cached values
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_stripes.stream().mapToInt( CStripe::size ).sum();
+    }
+
+    /**
+     * returns the number of hits
+     *
+     * @return hits
+     */
+    @Nonnegative
+    public long hits()
+    {
+        return m_hits.sum();
+    }
+
+    /**
+     * returns the number of misses
+     *
+     * @return misses
+     */
+    @Nonnegative
+    public long misses()
+    {
+        return m_misses.sum();
+    }
+
+    /**
+     * returns the number of evictions
+     *
+     * @return evictions
+     */
+    @Nonnegative
+    public long evictions()
+    {
+        return m_evictions.sum();
+    }
+
+    /**
+     * removes all values and resets the statistics
+     */
+    public void clear()
+    {
+        m_stripes.forEach( CStripe::clear );
+        m_hits.reset();
+        m_misses.reset();
+        m_evictions.reset();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format(
+            "%s [capacity: %d, size: %d, hits: %d, misses: %d, evictions: %d]",
+            m_name, m_capacity, this.size(), this.hits(), this.misses(), this.evictions()
+        );
+    }
+
+
+    /**
+     * segmented LRU stripe
+     *
+     * @tparam V value type
+     */
+    private static final class CStripe<V>
+    {
+        /**
+         * capacity
+         */
+        private final int m_capacity;
+        /**
+         * capacity of the protected segment
+         */
+        private final int m_protectedcapacity;
+        /**
+         * probationary segment in access order
+         */
+        private final Map<Long, V> m_probation = new LinkedHashMap<>( 16, 0.75f, true );
+        /**
+         * protected segment in access order
+         */
+        private final Map<Long, V> m_protected = new LinkedHashMap<>( 16, 0.75f, true );
+
+        /**
+         * ctor
+         *
+         * @param p_capacity capacity
+         */
+        CStripe( @Nonnegative final int p_capacity )
+        {
+            m_capacity = p_capacity;
+            m_protectedcapacity = p_capacity * 4 / 5;
+        }
+
+        /**
+         * returns a value, a hit within the
+         * probationary segment promotes the entry
+         *
+         * @param p_key key
+         * @return value or null
+         */
+        synchronized V get( final long p_key )
+        {
+            final V l_value = m_protected.get( p_key );
+            if ( l_value != null )
+                return l_value;
+
+            final V l_promote = m_probation.remove( p_key );
+            if ( l_promote == null )
+                return null;
+
+            m_protected.put( p_key, l_promote );
+            if ( m_protected.size() > m_protectedcapacity )
+            {
+                final Map.Entry<Long, V> l_eldest = eldest( m_protected );
+                m_probation.put( l_eldest.getKey(), l_eldest.getValue() );
+            }
+            return l_promote;
+        }
+
+        /**
+         * adds a value to the probationary segment
+         *
+         * @param p_key key
+         * @param p_value value
+         * @return flag that a value has been evicted
+         */
+        synchronized boolean put( final long p_key, @Nonnull final V p_value )
+        {
+            if ( m_protected.containsKey( p_key ) || m_probation.putIfAbsent( p_key, p_value ) != null )
+                return false;
+
+            if ( m_probation.size() + m_protected.size() <= m_capacity )
+                return false;
+
+            eldest( m_probation.isEmpty() ? m_protected : m_probation );
+            return true;
+        }
+
+        /**
+         * returns the number of values
+         *
+         * @return size
+         */
+        synchronized int size()
+        {
+            return m_probation.size() + m_protected.size();
+        }
+
+        /**
+         * removes all values
+         */
+        synchronized void clear()
+        {
+            m_probation.clear();
+            m_protected.clear();
+        }
+
+        /**
+         * removes the least recently used entry
+         *
+         * @param p_segment segment
+         * @return removed entry
+         */
+        @Nonnull
+        private static <V> Map.Entry<Long, V> eldest( @Nonnull final Map<Long, V> p_segment )
+        {
+            final Iterator<Map.Entry<Long, V>> l_iterator = p_segment.entrySet().iterator();
+            final Map.Entry<Long, V> l_entry = l_iterator.next();
+            l_iterator.remove();
+            return l_entry;
+        }
+    }
+
+}
@@ -0,0 +1,349 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * lock-free execution metrics of a math action.
+ * Counters are LongAdders, the latencies are stored in a
+ * log-linear histogram like HdrHistogram with 16 linear
+ * buckets for each power of two, so a percentile has a
+ * relative error of at most 1/16, times above 2^40 ns
+ * are stored in the last bucket. Metrics are enabled by
+ * "action.math.metrics", otherwise no metrics are created
+ *
+ * @see <a href="http://hdrhistogram.org/"></a>
+ */
+final class CMetrics implements IMetrics
+{
+    /**
+     * enable flag
+     */
+    static final boolean ENABLED = CConfiguration.bool( "metrics", false );
+    /**
+     * MXBean domain
+     */
+    private static final String DOMAIN = CMetrics.class.getPackageName();
+    /**
+     * number of bits of the linear buckets
+     */
+    private static final int SUBBITS = 4;
+    /**
+     * number of linear buckets for each power of two
+     */
+    private static final int SUBBUCKETS = 1 << SUBBITS;
+    /**
+     * largest exponent of the histogram
+     */
+    private static final int EXPONENT = 40;
+    /**
+     * number of buckets
+     */
+    private static final int BUCKETS = ( EXPONENT - SUBBITS + 2 ) * SUBBUCKETS;
+    /**
+     * metrics of all actions
+     */
+    private static final Map<String, CMetrics> METRICS = new ConcurrentHashMap<>();
+    /**
+     * action name
+     */
+    private final String m_name;
+    /**
+     * number of calls
+     */
+    private final LongAdder m_invocations = new LongAdder();
+    /**
+     * number of failed calls
+     */
+    private final LongAdder m_errors = new LongAdder();
+    /**
+     * number of input elements
+     */
+    private final LongAdder m_elements = new LongAdder();
+    /**
+     * total time
+     */
+    private final LongAdder m_time = new LongAdder();
+    /**
+     * maximal time
+     */
+    private final LongAccumulator m_maximum = new LongAccumulator( Math::max, 0 );
+    /**
+     * latency histogram
+     */
+    private final AtomicLongArray m_histogram = new AtomicLongArray( BUCKETS );
+
+    /**
+     * ctor
+     *
+     * @param p_name action name
+     */
+    private CMetrics( @Nonnull final String p_name )
+    {
+        m_name = p_name;
+    }
+
+    /**
+     * returns the metrics of an action, the
+     * metrics are registered on the first call
+     *
+     * @param p_name action name
+     * @return metrics
+     */
+    @Nonnull
+    static CMetrics of( @Nonnull final String p_name )
+    {
+        return METRICS.computeIfAbsent( p_name, i -> register( new CMetrics( i ) ) );
+    }
+
+    /**
+     * removes the metrics of an action
+     * and unregisters the MXBean
+     *
+     * @param p_name action name
+     */
+    static void remove( @Nonnull final String p_name )
+    {
+        if ( METRICS.remove( p_name ) == null )
+            return;
+
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean( objectname( p_name ) );
+        }
+        catch ( final JMException | SecurityException l_exception )
+        {
+            // MXBean was not registered
+        }
+    }
+
+    /**
+     * returns the metrics of all called actions
+     *
+     * @return unmodifiable metrics
+     */
+    @Nonnull
+    static Collection<CMetrics> all()
+    {
+        return Collections.unmodifiableCollection( METRICS.values() );
+    }
+
+    /**
+     * records a call
+     *
+     * @param p_elements number of input elements
+     * @param p_time execution time in nanoseconds
+     * @param p_error error flag
+     */
+    void record( @Nonnegative final long p_elements, final long p_time, final boolean p_error )
+    {
+        final long l_time = Math.max( 0, p_time );
+
+        m_invocations.increment();
+        m_elements.add( p_elements );
+        m_time.add( l_time );
+        m_maximum.accumulate( l_time );
+        m_histogram.incrementAndGet( bucket( l_time ) );
+        if ( p_error )
+            m_errors.increment();
+    }
+
+    @Nonnull
+    @Override
+    public String getName()
+    {
+        return m_name;
+    }
+
+    @Override
+    public long getInvocations()
+    {
+        return m_invocations.sum();
+    }
+
+    @Override
+    public long getErrors()
+    {
+        return m_errors.sum();
+    }
+
+    @Override
+    public long getElements()
+    {
+        return m_elements.sum();
+    }
+
+    @Override
+    public long getTotalTime()
+    {
+        return m_time.sum();
+    }
+
+    @Override
+    public long getMaximumTime()
+    {
+        return m_maximum.get();
+    }
+
+    @Override
+    public long getP50()
+    {
+        return this.percentile( 0.5 );
+    }
+
+    @Override
+    public long getP99()
+    {
+        return this.percentile( 0.99 );
+    }
+
+    @Override
+    public long getP999()
+    {
+        return this.percentile( 0.999 );
+    }
+
+    @Override
+    public void reset()
+    {
+        m_invocations.reset();
+        m_errors.reset();
+        m_elements.reset();
+        m_time.reset();
+        m_maximum.reset();
+        for ( int i = 0; i < BUCKETS; i++ )
+            m_histogram.set( i, 0 );
+    }
+
+    /**
+     * returns a percentile of the histogram
+     *
+     * @param p_quantile quantile in [0, 1]
+     * @return upper bound of the bucket of the percentile or zero if there is no call
+     */
+    @Nonnegative
+    long percentile( final double p_quantile )
+    {
+        final long[] l_counts = new long[BUCKETS];
+        long l_total = 0;
+        for ( int i = 0; i < BUCKETS; i++ )
+        {
+            l_counts[i] = m_histogram.get( i );
+            l_total += l_counts[i];
+        }
+
+        final long l_rank = Math.max( 1, (long) Math.ceil( p_quantile * l_total ) );
+        long l_count = 0;
+        for ( int i = 0; i < BUCKETS; i++ )
+        {
+            l_count += l_counts[i];
+            if ( l_count >= l_rank )
+                return Math.min( upper( i ), m_maximum.get() );
+        }
+        return 0;
+    }
+
+    /**
+     * returns the bucket of a time
+     *
+     * @param p_time time
+     * @return bucket index
+     */
+    @Nonnegative
+    static int bucket( @Nonnegative final long p_time )
+    {
+        if ( p_time < SUBBUCKETS )
+            return (int) p_time;
+
+        final int l_shift = Math.min( EXPONENT, Long.SIZE - 1 - Long.numberOfLeadingZeros( p_time ) ) - SUBBITS;
+        return Math.min(
+            BUCKETS - 1,
+            ( l_shift + 1 ) * SUBBUCKETS + (int) Math.min( SUBBUCKETS - 1, ( p_time >>> l_shift ) - SUBBUCKETS )
+        );
+    }
+
+    /**
+     * returns the largest time of a bucket
+     *
+     * @param p_bucket bucket index
+     * @return time
+     */
+    @Nonnegative
+    static long upper( @Nonnegative final int p_bucket )
+    {
+        if ( p_bucket < 2 * SUBBUCKETS )
+            return p_bucket;
+
+        final int l_shift = p_bucket / SUBBUCKETS - 1;
+        return ( (long) ( p_bucket % SUBBUCKETS + SUBBUCKETS + 1 ) << l_shift ) - 1;
+    }
+
+    /**
+     * registers the MXBean, the metrics are
+     * recorded even if the registration fails
+     *
+     * @param p_metrics metrics
+     * @return metrics
+     */
+    @Nonnull
+    private static CMetrics register( @Nonnull final CMetrics p_metrics )
+    {
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer().registerMBean( p_metrics, objectname( p_metrics.m_name ) );
+        }
+        catch ( final JMException | SecurityException l_exception )
+        {
+            // metrics are still available by the action without the MXBean
+        }
+        return p_metrics;
+    }
+
+    /**
+     * returns the MXBean name of an action
+     *
+     * @param p_name action name
+     * @return object name
+     * @throws MalformedObjectNameException is thrown on an invalid name
+     */
+    @Nonnull
+    private static ObjectName objectname( @Nonnull final String p_name ) throws MalformedObjectNameException
+    {
+        return new ObjectName( DOMAIN + ":type=action,name=" + ObjectName.quote( p_name ) );
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+
+/**
+ * deterministic Miller-Rabin primality test for all positive long values.
+ * The test uses the seven witnesses of Jim Sinclair, which are proven for
+ * all numbers less than \f$ 2^{64} \f$, the modular arithmetic is done with
+ * 64 bit Montgomery multiplication
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Miller%E2%80%93Rabin_primality_test"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Montgomery_modular_multiplication"></a>
+ * @see <a href="https://miller-rabin.appspot.com/"></a>
+ */
+final class CMillerRabin
+{
+    /**
+     * witnesses
+     */
+    private static final long[] WITNESSES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+    /**
+     * small primes for trial division
+     */
+    private static final long[] SMALLPRIMES = {3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53};
+
+    /**
+     * ctor
+     */
+    private CMillerRabin()
+    {
+    }
+
+
+    /**
+     * checks if a number is prime
+     *
+     * @param p_value number
+     * @return prime flag
+     */
+    static boolean isprime( final long p_value )
+    {
+        if ( p_value < 3 )
+            return p_value == 2;
+        if ( ( p_value & 1 ) == 0 )
+            return false;
+
+        for ( final long i : SMALLPRIMES )
+            if ( p_value % i == 0 )
+                return p_value == i;
+
+        // every odd composite less than 59^2 has a factor within the small primes
+        if ( p_value < 59 * 59 )
+            return true;
+
+        final long l_inverse = inverse( p_value );
+        final long l_one = Long.remainderUnsigned( -p_value, p_value );
+        final long l_minusone = p_value - l_one;
+        final long l_square = square( l_one, p_value );
+
+        final int l_shift = Long.numberOfTrailingZeros( p_value - 1 );
+        final long l_exponent = ( p_value - 1 ) >>> l_shift;
+
+        for ( final long i : WITNESSES )
+        {
+            final long l_witness = i % p_value;
+            if ( l_witness == 0 )
+                continue;
+
+            long l_value = pow( multiply( l_witness, l_square, p_value, l_inverse ), l_exponent, l_one, p_value, l_inverse );
+            if ( l_value == l_one || l_value == l_minusone )
+                continue;
+
+            boolean l_composite = true;
+            for ( int j = 1; j < l_shift && l_composite; j++ )
+            {
+                l_value = multiply( l_value, l_value, p_value, l_inverse );
+                l_composite = l_value != l_minusone;
+            }
+
+            if ( l_composite )
+                return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * calculates \f$ -n^{-1} \mod 2^{64} \f$ with Newton iteration
+     *
+     * @param p_modulus odd modulus
+     * @return negative inverse
+     */
+    static long inverse( final long p_modulus )
+    {
+        long l_inverse = p_modulus;
+        for ( int i = 0; i < 5; i++ )
+            l_inverse *= 2 - p_modulus * l_inverse;
+        return -l_inverse;
+    }
+
+    /**
+     * calculates \f$ R^2 \mod n \f$ by doubling \f$ R \mod n \f$
+     *
+     * @param p_one montgomery representation of one
+     * @param p_modulus modulus
+     * @return montgomery square factor
+     */
+    private static long square( final long p_one, final long p_modulus )
+    {
+        long l_value = p_one;
+        for ( int i = 0; i < Long.SIZE; i++ )
+        {
+            l_value <<= 1;
+            if ( l_value < 0 || l_value >= p_modulus )
+                l_value -= p_modulus;
+        }
+        return l_value;
+    }
+
+    /**
+     * montgomery exponentiation
+     *
+     * @param p_base montgomery base
+     * @param p_exponent exponent
+     * @param p_one montgomery representation of one
+     * @param p_modulus modulus
+     * @param p_inverse negative inverse of the modulus
+     * @return montgomery result
+     */
+    private static long pow( final long p_base, final long p_exponent, final long p_one, final long p_modulus, final long p_inverse )
+    {
+        long l_result = p_one;
+        long l_base = p_base;
+        for ( long i = p_exponent; i != 0; i >>>= 1 )
+        {
+            if ( ( i & 1 ) == 1 )
+                l_result = multiply( l_result, l_base, p_modulus, p_inverse );
+            l_base = multiply( l_base, l_base, p_modulus, p_inverse );
+        }
+        return l_result;
+    }
+
+    /**
+     * montgomery multiplication \f$ a \cdot b \cdot R^{-1} \mod n \f$
+     *
+     * @param p_left left factor less than the modulus
+     * @param p_right right factor less than the modulus
+     * @param p_modulus odd modulus less than \f$ 2^{63} \f$
+     * @param p_inverse negative inverse of the modulus
+     * @return product
+     */
+    static long multiply( final long p_left, final long p_right, final long p_modulus, final long p_inverse )
+    {
+        final long l_low = p_left * p_right;
+        final long l_high = Math.multiplyHigh( p_left, p_right );
+        final long l_reduce = l_low * p_inverse;
+
+        // low word of product + reduce * modulus is zero, so a carry exists iif the low word is not zero
+        final long l_result = l_high + Math.multiplyHigh( l_reduce, p_modulus ) + ( ( l_reduce >> 63 ) & p_modulus ) + ( l_low == 0 ? 0 : 1 );
+        return l_result < 0 || l_result >= p_modulus ? l_result - p_modulus : l_result;
+    }
+
+}
@@ -23,10 +23,8 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -46,7 +44,7 @@ import java.util.stream.Stream;
  *
  * {@code Max = .math/min( 2, 5, 7, [3, 2] );}
  */
-public final class CMin extends IBaseAction
+public final class CMin extends IBaseMathAction
 {
     /**
      * serial id
@@ -73,14 +71,18 @@ public final class CMin extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final OptionalDouble l_value = CCommon.flatten( p_argument )
-                                              .map( ITerm::<Number>raw )
-                                              .mapToDouble( Number::doubleValue )
-                                              .min();
+        final Number l_scalar = CMathCommon.scalar( p_argument );
+        if ( l_scalar != null )
+        {
+            p_return.add( CRawTerm.of( l_scalar.doubleValue() ) );
+            return Stream.empty();
+        }
+
+        final OptionalDouble l_value = CMathCommon.stream( p_parallel, CMathCommon.flatten( p_argument ) ).min();
 
         if ( !l_value.isPresent() )
             throw new CExecutionIllegalStateException(
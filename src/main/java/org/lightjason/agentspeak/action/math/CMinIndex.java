@@ -23,11 +23,8 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionException;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
@@ -35,8 +32,6 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -47,7 +42,7 @@ import java.util.stream.Stream;
  *
  * {@code MinIndex = .math/minindex( 5, 6, [7,8, [1,2,3]] );}
  */
-public final class CMinIndex extends IBaseAction
+public final class CMinIndex extends IBaseMathAction
 {
     /**
      * serial id
@@ -74,24 +69,15 @@ public final class CMinIndex extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final List<Double> l_list = CCommon.flatten( p_argument )
-                                           .map( ITerm::<Number>raw )
-                                           .mapToDouble( Number::doubleValue )
-                                           .boxed()
-                                           .collect( Collectors.toList() );
+        final int l_index = CIndexSelection.argmin( p_parallel, CMathCommon.flatten( p_argument ) );
+        if ( l_index < 0 )
+            throw new CExecutionException( p_context );
 
-        p_return.add(
-            CRawTerm.of(
-                (double) IntStream.range( 0, l_list.size() )
-                                  .parallel()
-                                  .reduce( ( i, j ) -> l_list.get( i ) < l_list.get( j ) ? i : j )
-                                  .orElseThrow( () -> new CExecutionException( p_context ) )
-            )
-        );
+        p_return.add( CTermCache.of( (double) l_index ) );
 
         return Stream.empty();
     }
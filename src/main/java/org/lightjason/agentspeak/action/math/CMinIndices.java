@@ -0,0 +1,95 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * action for indices of the k smallest values.
+ * The first argument is the number k, the action returns a list
+ * with the indices of the k smallest values of the unflatten
+ * argument list in ascending order of the values, on equal
+ * values the last index is used, NaN values are ignored
+ *
+ * {@code L = .math/minindices( 2, 5, 6, [7,8, [1,2,3]] );}
+ */
+public final class CMinIndices extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5093426182795541264L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CMinIndices.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        p_return.add(
+            CRawTerm.of(
+                Arrays.stream(
+                    CIndexSelection.top(
+                        p_parallel,
+                        CMathCommon.flatten( p_argument.subList( 1, p_argument.size() ) ),
+                        p_argument.get( 0 ).<Number>raw().intValue(),
+                        false
+                    )
+                ).mapToObj( i -> (double) i ).collect( Collectors.toList() )
+            )
+        );
+
+        return Stream.empty();
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * mergeable single-pass accumulator of descriptive statistics.
+ * The central moments are updated with the Welford / Terriberry
+ * recurrence and combined with the pairwise formulas of Chan and
+ * Pebay, the sum is calculated by the default summation engine,
+ * variance, skewness and kurtosis are bias-corrected sample values,
+ * the accumulator is serializable, so it can be stored as running
+ * statistic within beliefs
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Higher-order_statistics"></a>
+ * @see <a href="https://www.osti.gov/biblio/1028931"></a>
+ */
+public final class CMoments implements DoubleConsumer, Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3302703640991750414L;
+    /**
+     * variance, below which the distribution is treated as constant
+     */
+    private static final double CONSTANTVARIANCE = 1e-19;
+    /**
+     * number of values
+     */
+    private long m_count;
+    /**
+     * mean
+     */
+    private double m_mean;
+    /**
+     * second central moment sum
+     */
+    private double m_m2;
+    /**
+     * third central moment sum
+     */
+    private double m_m3;
+    /**
+     * fourth central moment sum
+     */
+    private double m_m4;
+    /**
+     * minimum
+     */
+    private double m_min = Double.POSITIVE_INFINITY;
+    /**
+     * maximum
+     */
+    private double m_max = Double.NEGATIVE_INFINITY;
+    /**
+     * sum
+     */
+    private final ESummation.IAccumulator m_sum = ESummation.DEFAULT.accumulator();
+
+    @Override
+    public void accept( final double p_value )
+    {
+        final double l_count = m_count;
+        m_count++;
+
+        final double l_delta = p_value - m_mean;
+        final double l_deltan = l_delta / m_count;
+        final double l_deltan2 = l_deltan * l_deltan;
+        final double l_term = l_delta * l_deltan * l_count;
+
+        m_mean += l_deltan;
+        m_m4 += l_term * l_deltan2 * ( (double) m_count * m_count - 3.0 * m_count + 3 ) + 6 * l_deltan2 * m_m2 - 4 * l_deltan * m_m3;
+        m_m3 += l_term * l_deltan * ( m_count - 2.0 ) - 3 * l_deltan * m_m2;
+        m_m2 += l_term;
+
+        m_min = Math.min( m_min, p_value );
+        m_max = Math.max( m_max, p_value );
+        m_sum.accept( p_value );
+    }
+
+    /**
+     * combines two accumulators
+     *
+     * @param p_moments other accumulator
+     */
+    public void combine( @Nonnull final CMoments p_moments )
+    {
+        if ( p_moments.m_count == 0 )
+            return;
+
+        final double l_left = m_count;
+        final double l_right = p_moments.m_count;
+        final double l_count = l_left + l_right;
+
+        final double l_delta = p_moments.m_mean - m_mean;
+        final double l_delta2 = l_delta * l_delta;
+
+        final double l_m2 = m_m2 + p_moments.m_m2 + l_delta2 * l_left * l_right / l_count;
+        final double l_m3 = m_m3 + p_moments.m_m3
+                            + l_delta2 * l_delta * l_left * l_right * ( l_left - l_right ) / ( l_count * l_count )
+                            + 3 * l_delta * ( l_left * p_moments.m_m2 - l_right * m_m2 ) / l_count;
+        final double l_m4 = m_m4 + p_moments.m_m4
+                            + l_delta2 * l_delta2 * l_left * l_right * ( l_left * l_left - l_left * l_right + l_right * l_right ) / ( l_count * l_count * l_count )
+                            + 6 * l_delta2 * ( l_left * l_left * p_moments.m_m2 + l_right * l_right * m_m2 ) / ( l_count * l_count )
+                            + 4 * l_delta * ( l_left * p_moments.m_m3 - l_right * m_m3 ) / l_count;
+
+        m_mean += l_delta * l_right / l_count;
+        m_m2 = l_m2;
+        m_m3 = l_m3;
+        m_m4 = l_m4;
+        m_count += p_moments.m_count;
+
+        m_min = Math.min( m_min, p_moments.m_min );
+        m_max = Math.max( m_max, p_moments.m_max );
+        m_sum.combine( p_moments.m_sum );
+    }
+
+    /**
+     * returns the number of values
+     *
+     * @return number of values
+     */
+    @Nonnegative
+    public long count()
+    {
+        return m_count;
+    }
+
+    /**
+     * returns the sum
+     *
+     * @return sum
+     */
+    public double sum()
+    {
+        return m_sum.get();
+    }
+
+    /**
+     * returns the minimum
+     *
+     * @return minimum or NaN if no value exists
+     */
+    public double min()
+    {
+        return m_count == 0 ? Double.NaN : m_min;
+    }
+
+    /**
+     * returns the maximum
+     *
+     * @return maximum or NaN if no value exists
+     */
+    public double max()
+    {
+        return m_count == 0 ? Double.NaN : m_max;
+    }
+
+    /**
+     * returns the arithmetic mean
+     *
+     * @return mean or NaN if no value exists
+     */
+    public double mean()
+    {
+        return m_count == 0 ? Double.NaN : m_mean;
+    }
+
+    /**
+     * returns the sample variance
+     *
+     * @return variance, zero for a single value or NaN if no value exists
+     */
+    public double variance()
+    {
+        if ( m_count == 0 )
+            return Double.NaN;
+        return m_count == 1 ? 0 : m_m2 / ( m_count - 1.0 );
+    }
+
+    /**
+     * returns the sample standard deviation
+     *
+     * @return standard deviation
+     */
+    public double standarddeviation()
+    {
+        return Math.sqrt( this.variance() );
+    }
+
+    /**
+     * returns the sample skewness
+     *
+     * @return skewness or NaN for less than three values
+     */
+    public double skewness()
+    {
+        if ( m_count < 3 )
+            return Double.NaN;
+
+        final double l_variance = this.variance();
+        if ( l_variance < CONSTANTVARIANCE )
+            return 0;
+
+        final double l_count = m_count;
+        return l_count * m_m3 / ( ( l_count - 1 ) * ( l_count - 2 ) * Math.sqrt( l_variance ) * l_variance );
+    }
+
+    /**
+     * returns the sample excess kurtosis
+     *
+     * @return kurtosis or NaN for less than four values
+     */
+    public double kurtosis()
+    {
+        if ( m_count < 4 )
+            return Double.NaN;
+
+        final double l_variance = this.variance();
+        if ( l_variance < CONSTANTVARIANCE )
+            return 0;
+
+        final double l_count = m_count;
+        return ( l_count * ( l_count + 1 ) * m_m4 - 3 * m_m2 * m_m2 * ( l_count - 1 ) )
+               / ( ( l_count - 1 ) * ( l_count - 2 ) * ( l_count - 3 ) * l_variance * l_variance );
+    }
+
+}
@@ -23,17 +23,15 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.apache.commons.math3.primes.Primes;
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -41,14 +39,17 @@ import java.util.stream.Stream;
 /**
  * action for create the next prime number.
  * The action calculates the next prime number relative to
- * the given argument value
+ * the given argument value, results of numbers above
+ * the prime sieve are memoized with the cache size
+ * "action.math.nextprime.memoization", the action fails
+ * on numbers above the largest prime of the long range
  *
  * {@code [A|B|C] = .math/nextprime( [12, [144, 1096]] );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Prime_number"></a>
  * @see <a href="https://en.wikipedia.org/wiki/Primality_test"></a>
  */
-public final class CNextPrime extends IBaseAction
+public final class CNextPrime extends IBaseMathAction
 {
     /**
      * serial id
@@ -58,6 +59,10 @@ public final class CNextPrime extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CNextPrime.class, "math" );
+    /**
+     * memoization of numbers above the sieve bound
+     */
+    private static final CMemoization<Long> MEMOIZATION = CMemoization.of( "nextprime" );
 
     @Nonnull
     @Override
@@ -75,18 +80,39 @@ public final class CNextPrime extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToDouble( i -> Primes.nextPrime( i.intValue() ) )
-               .boxed()
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final long[] l_values = CMathCommon.flattenlong( p_argument );
+        if ( Arrays.stream( l_values ).anyMatch( i -> i > CPrimeSieve.LARGESTPRIME ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "noprime" )
+            );
+
+        if ( CMathCommon.parallel( p_parallel, l_values.length ) )
+            Arrays.parallelSetAll( l_values, i -> nextprime( l_values[i] ) );
+        else
+            for ( int i = 0; i < l_values.length; i++ )
+                l_values[i] = nextprime( l_values[i] );
+
+        CMathCommon.reserve( p_return, l_values.length );
+        for ( final long i : l_values )
+            p_return.add( CTermCache.of( (double) i ) );
 
         return Stream.empty();
     }
 
+    /**
+     * returns the next prime, numbers above the sieve bound are memoized
+     *
+     * @param p_value number
+     * @return next prime
+     */
+    private static long nextprime( final long p_value )
+    {
+        return p_value < CPrimeSieve.BOUND ? CPrimeSieve.nextprime( p_value ) : MEMOIZATION.get( p_value, CPrimeSieve::nextprime );
+    }
+
 }
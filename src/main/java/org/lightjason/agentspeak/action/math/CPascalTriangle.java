@@ -0,0 +1,179 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.apache.commons.math3.util.CombinatoricsUtils;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+
+/**
+ * JVM-wide cache of the Pascal triangle.
+ * Each row stores the left half of the binomial coefficients
+ * up to the first value which exceeds the long range, so the
+ * memory of a row shrinks for large n, the number of rows is
+ * set by "action.math.binomial.rows", rows are grown lazily
+ * by the recurrence
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Pascal%27s_triangle"></a>
+ */
+final class CPascalTriangle
+{
+    /**
+     * number of cached rows
+     */
+    static final int ROWS = Math.max( 2, CConfiguration.integer( "binomial.rows", 4096 ) );
+    /**
+     * rows
+     */
+    private static final CRowCache<long[]> TRIANGLE = new CRowCache<>( ROWS, new long[]{1}, CPascalTriangle::next );
+
+    /**
+     * ctor
+     */
+    private CPascalTriangle()
+    {
+    }
+
+
+    /**
+     * exact binomial coefficient
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return coefficient
+     * @throws org.apache.commons.math3.exception.MathArithmeticException if the result exceeds the long range
+     */
+    static long binomial( final int p_n, final int p_k )
+    {
+        final long l_value = lookup( p_n, p_k );
+        return l_value < 0 ? CombinatoricsUtils.binomialCoefficient( p_n, p_k ) : l_value;
+    }
+
+    /**
+     * floating-point binomial coefficient
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return coefficient
+     */
+    static double binomialdouble( final int p_n, final int p_k )
+    {
+        final long l_value = lookup( p_n, p_k );
+        return l_value < 0 ? Math.floor( Math.exp( binomiallog( p_n, p_k ) ) + 0.5 ) : l_value;
+    }
+
+    /**
+     * logarithm of the binomial coefficient, large values
+     * are calculated by the logarithm of the factorials
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return natural logarithm of the coefficient
+     */
+    static double binomiallog( final int p_n, final int p_k )
+    {
+        final long l_value = lookup( p_n, p_k );
+        if ( l_value >= 0 )
+            return Math.log( l_value );
+
+        CombinatoricsUtils.checkBinomial( p_n, p_k );
+        return CCombinatorics.factoriallog( p_n ) - CCombinatorics.factoriallog( p_k ) - CCombinatorics.factoriallog( p_n - p_k );
+    }
+
+    /**
+     * arbitrary-precision binomial coefficient, large values
+     * are calculated by the multiplicative form
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return coefficient
+     */
+    @Nonnull
+    static BigInteger binomialbig( final int p_n, final int p_k )
+    {
+        final long l_value = lookup( p_n, p_k );
+        if ( l_value >= 0 )
+            return BigInteger.valueOf( l_value );
+
+        CombinatoricsUtils.checkBinomial( p_n, p_k );
+        final int l_k = Math.min( p_k, p_n - p_k );
+        BigInteger l_result = BigInteger.ONE;
+        for ( int i = 1; i <= l_k; i++ )
+            l_result = l_result.multiply( BigInteger.valueOf( p_n - l_k + i ) ).divide( BigInteger.valueOf( i ) );
+        return l_result;
+    }
+
+
+    /**
+     * reads a coefficient from the cache
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return coefficient or -1 if the coefficient is not cached
+     */
+    private static long lookup( final int p_n, final int p_k )
+    {
+        if ( p_n < 0 || p_n >= ROWS || p_k < 0 || p_k > p_n )
+            return -1;
+
+        final int l_k = Math.min( p_k, p_n - p_k );
+        final long[] l_row = TRIANGLE.get( p_n );
+        return l_k < l_row.length ? l_row[l_k] : -1;
+    }
+
+    /**
+     * calculates a row by the recurrence \f$ \binom{n}{k} = \binom{n-1}{k-1} + \binom{n-1}{k} \f$
+     *
+     * @param p_previous previous row
+     * @param p_n row index
+     * @return row
+     */
+    @Nonnull
+    private static long[] next( @Nonnull final long[] p_previous, @Nonnegative final int p_n )
+    {
+        final long[] l_row = new long[Math.min( p_n / 2 + 1, p_previous.length + 1 )];
+        l_row[0] = 1;
+
+        int l_k = 1;
+        for ( ; l_k < l_row.length; l_k++ )
+        {
+            final int l_mirror = Math.min( l_k, p_n - 1 - l_k );
+            if ( l_mirror >= p_previous.length )
+                break;
+
+            final long l_value = p_previous[l_k - 1] + p_previous[l_mirror];
+            if ( l_value < 0 )
+                break;
+
+            l_row[l_k] = l_value;
+        }
+
+        return l_k == l_row.length ? l_row : Arrays.copyOf( l_row, l_k );
+    }
+
+}
@@ -23,18 +23,13 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
-import org.lightjason.agentspeak.language.execution.IContext;
-import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.DoubleUnaryOperator;
 
 
 /**
@@ -45,7 +40,7 @@ import java.util.stream.Stream;
  *
  * {@code [A|B|C] = .math/pow(2, -2, 2, 9);}
  */
-public final class CPow extends IBaseAction
+public final class CPow extends IBaseUnaryAction
 {
     /**
      * serial id
@@ -72,21 +67,30 @@ public final class CPow extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
-    )
+    protected List<ITerm> arguments( @Nonnull final List<ITerm> p_argument )
+    {
+        return p_argument.subList( 1, p_argument.size() );
+    }
+
+    @Nonnull
+    @Override
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
     {
         final double l_exponent = p_argument.get( 0 ).<Number>raw().doubleValue();
+        return i -> Math.pow( i, l_exponent );
+    }
 
-        CCommon.flatten( p_argument.subList( 1, p_argument.size() ) )
-               .map( ITerm::<Number>raw )
-               .mapToDouble( Number::doubleValue )
-               .boxed()
-               .map( i -> Math.pow( i, l_exponent ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+    @Nonnull
+    @Override
+    protected EVectorOperation vectoroperation()
+    {
+        return EVectorOperation.POW;
+    }
 
-        return Stream.empty();
+    @Override
+    protected double vectorparameter( @Nonnull final List<ITerm> p_argument )
+    {
+        return p_argument.get( 0 ).<Number>raw().doubleValue();
     }
 
 }
@@ -0,0 +1,154 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+
+/**
+ * compact list of prime factors.
+ * The factors are stored as pairs of distinct primes and
+ * exponents, the list itself is a read-only view of the
+ * ascending factors with multiplicity, e.g. 120 is stored
+ * as \f$ 2^3 \cdot 3 \cdot 5 \f$ and shown as [2, 2, 2, 3, 5]
+ */
+public final class CPrimeFactorList extends AbstractList<Double> implements RandomAccess, Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4386203826017563930L;
+    /**
+     * distinct primes
+     */
+    private final long[] m_primes;
+    /**
+     * exponents
+     */
+    private final int[] m_exponents;
+    /**
+     * number of factors with multiplicity
+     */
+    private final int m_size;
+
+    /**
+     * ctor
+     *
+     * @param p_primes distinct primes
+     * @param p_exponents exponents
+     * @param p_size number of factors with multiplicity
+     */
+    private CPrimeFactorList( @Nonnull final long[] p_primes, @Nonnull final int[] p_exponents, @Nonnegative final int p_size )
+    {
+        m_primes = p_primes;
+        m_exponents = p_exponents;
+        m_size = p_size;
+    }
+
+    /**
+     * creates the list of sorted factors
+     *
+     * @param p_factors ascending factors with multiplicity
+     * @param p_size number of factors
+     * @return list
+     */
+    @Nonnull
+    static CPrimeFactorList of( @Nonnull final long[] p_factors, @Nonnegative final int p_size )
+    {
+        final long[] l_primes = new long[p_size];
+        final int[] l_exponents = new int[p_size];
+        int l_distinct = 0;
+
+        for ( int i = 0; i < p_size; i++ )
+            if ( l_distinct > 0 && l_primes[l_distinct - 1] == p_factors[i] )
+                l_exponents[l_distinct - 1]++;
+            else
+            {
+                l_primes[l_distinct] = p_factors[i];
+                l_exponents[l_distinct++] = 1;
+            }
+
+        return new CPrimeFactorList( Arrays.copyOf( l_primes, l_distinct ), Arrays.copyOf( l_exponents, l_distinct ), p_size );
+    }
+
+    /**
+     * returns the number of distinct primes
+     *
+     * @return number of distinct primes
+     */
+    @Nonnegative
+    public int distinct()
+    {
+        return m_primes.length;
+    }
+
+    /**
+     * returns a distinct prime
+     *
+     * @param p_index index less than the number of distinct primes
+     * @return prime
+     */
+    public long prime( @Nonnegative final int p_index )
+    {
+        return m_primes[p_index];
+    }
+
+    /**
+     * returns the exponent of a distinct prime
+     *
+     * @param p_index index less than the number of distinct primes
+     * @return exponent
+     */
+    @Nonnegative
+    public int exponent( @Nonnegative final int p_index )
+    {
+        return m_exponents[p_index];
+    }
+
+    @Override
+    public Double get( final int p_index )
+    {
+        if ( p_index < 0 || p_index >= m_size )
+            throw new IndexOutOfBoundsException( p_index );
+
+        int l_index = p_index;
+        int i = 0;
+        for ( ; l_index >= m_exponents[i]; i++ )
+            l_index -= m_exponents[i];
+
+        return (double) m_primes[i];
+    }
+
+    @Override
+    public int size()
+    {
+        return m_size;
+    }
+
+}
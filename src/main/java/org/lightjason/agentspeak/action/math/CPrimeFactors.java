@@ -23,10 +23,7 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.apache.commons.math3.primes.Primes;
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -34,22 +31,27 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * action for creating prime factors list.
  * For each argument the action returns a list
- * of prime factors
+ * of prime factors, the list stores the distinct
+ * primes with their exponents, small numbers are
+ * split by a shared table, large numbers up to
+ * \f$ 2^{63} - 1 \f$ by the Pollard-Brent rho method
+ * and memoized with the cache size "action.math.primefactors.memoization"
  *
  * {@code [L1|L2] = .math/primfactors( 8, [120] );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Prime_number"></a>
  * @see <a href="https://en.wikipedia.org/wiki/Primality_test"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Integer_factorization"></a>
  */
-public final class CPrimeFactors extends IBaseAction
+public final class CPrimeFactors extends IBaseMathAction
 {
     /**
      * serial id
@@ -59,6 +61,10 @@ public final class CPrimeFactors extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CPrimeFactors.class, "math" );
+    /**
+     * memoization of numbers above the factor table
+     */
+    private static final CMemoization<CPrimeFactorList> MEMOIZATION = CMemoization.of( "primefactors" );
 
     @Nonnull
     @Override
@@ -76,20 +82,36 @@ public final class CPrimeFactors extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<Number>raw )
-               .mapToInt( Number::intValue )
-               .boxed()
-               .map( Primes::primeFactors )
-               .map( i -> i.stream().mapToDouble( j -> j ).boxed().collect( Collectors.toList() ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final long[] l_values = CMathCommon.flattenlong( p_argument );
+        final CPrimeFactorList[] l_result = new CPrimeFactorList[l_values.length];
+
+        if ( CMathCommon.parallel( p_parallel, l_values.length ) )
+            Arrays.parallelSetAll( l_result, i -> factorize( l_values[i] ) );
+        else
+            for ( int i = 0; i < l_values.length; i++ )
+                l_result[i] = factorize( l_values[i] );
+
+        CMathCommon.reserve( p_return, l_result.length );
+        for ( final CPrimeFactorList i : l_result )
+            p_return.add( CRawTerm.of( i ) );
 
         return Stream.empty();
     }
 
+    /**
+     * factorizes a number, numbers above the factor table are memoized
+     *
+     * @param p_value number
+     * @return factors
+     */
+    @Nonnull
+    private static CPrimeFactorList factorize( final long p_value )
+    {
+        return p_value < CFactorization.BOUND ? CFactorization.factorize( p_value ) : MEMOIZATION.get( p_value, CFactorization::factorize );
+    }
+
 }
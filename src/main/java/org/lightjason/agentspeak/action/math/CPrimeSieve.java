@@ -0,0 +1,255 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.apache.commons.math3.exception.MathIllegalArgumentException;
+import org.apache.commons.math3.exception.util.LocalizedFormats;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * JVM-wide prime sieve.
+ * The sieve stores only odd numbers as bits and is grown lazily
+ * in segments up to the bound "action.math.primesieve.bound",
+ * queries below the bound are memory lookups, queries above
+ * are calculated with a deterministic Miller-Rabin test
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Sieve_of_Eratosthenes#Segmented_sieve"></a>
+ */
+final class CPrimeSieve
+{
+    /**
+     * numbers which are stored in one word
+     */
+    private static final int WORDNUMBERS = 2 * Long.SIZE;
+    /**
+     * minimal segment size
+     */
+    private static final long SEGMENT = 1L << 16;
+    /**
+     * exclusive upper bound of the sieve
+     */
+    static final long BOUND = Math.max( SEGMENT, CConfiguration.integer( "primesieve.bound", 1 << 24 ) ) / WORDNUMBERS * WORDNUMBERS;
+    /**
+     * largest prime within the long range
+     */
+    static final long LARGESTPRIME = Long.MAX_VALUE - 24;
+    /**
+     * current sieve
+     */
+    private static volatile CSnapshot s_sieve = new CSnapshot( new long[0], 0 );
+
+    /**
+     * ctor
+     */
+    private CPrimeSieve()
+    {
+    }
+
+
+    /**
+     * checks if a number is prime
+     *
+     * @param p_value number
+     * @return prime flag
+     */
+    static boolean isprime( final long p_value )
+    {
+        if ( p_value < 3 )
+            return p_value == 2;
+        if ( ( p_value & 1 ) == 0 )
+            return false;
+        if ( p_value >= BOUND )
+            return CMillerRabin.isprime( p_value );
+
+        return snapshot( p_value ).prime( p_value );
+    }
+
+    /**
+     * returns the smallest prime which is greater or equal
+     *
+     * @param p_value number
+     * @return prime
+     * @throws MathIllegalArgumentException on negative numbers or numbers above the largest prime
+     * @throws ArithmeticException if the prime exceeds the long range
+     */
+    static long nextprime( final long p_value )
+    {
+        if ( p_value < 0 )
+            throw new MathIllegalArgumentException( LocalizedFormats.NUMBER_TOO_SMALL, p_value, 0 );
+        if ( p_value > LARGESTPRIME )
+            throw new MathIllegalArgumentException( LocalizedFormats.NUMBER_TOO_LARGE, p_value, LARGESTPRIME );
+        if ( p_value <= 2 )
+            return 2;
+
+        long l_value = p_value | 1;
+        while ( l_value < BOUND )
+        {
+            final CSnapshot l_sieve = snapshot( l_value );
+            final long l_prime = l_sieve.next( l_value );
+            if ( l_prime > 0 )
+                return l_prime;
+
+            l_value = l_sieve.m_limit + 1;
+        }
+
+        while ( !CMillerRabin.isprime( l_value ) )
+            l_value += 2;
+        return l_value;
+    }
+
+
+    /**
+     * returns a sieve which contains the number
+     *
+     * @param p_value number less than the bound
+     * @return sieve
+     */
+    @Nonnull
+    private static CSnapshot snapshot( @Nonnegative final long p_value )
+    {
+        final CSnapshot l_sieve = s_sieve;
+        return p_value < l_sieve.m_limit ? l_sieve : grow( p_value );
+    }
+
+    /**
+     * grows the sieve, so that it contains the number
+     *
+     * @param p_value number less than the bound
+     * @return sieve
+     */
+    @Nonnull
+    private static synchronized CSnapshot grow( @Nonnegative final long p_value )
+    {
+        final CSnapshot l_sieve = s_sieve;
+        if ( p_value < l_sieve.m_limit )
+            return l_sieve;
+
+        final long l_limit = Math.min(
+            BOUND,
+            Math.max( 2 * l_sieve.m_limit, ( p_value / SEGMENT + 1 ) * SEGMENT )
+        );
+
+        s_sieve = l_sieve.grow( l_limit );
+        return s_sieve;
+    }
+
+
+    /**
+     * immutable sieve snapshot, bit i represents the number 2i + 1
+     */
+    private static final class CSnapshot
+    {
+        /**
+         * prime bits
+         */
+        private final long[] m_bits;
+        /**
+         * exclusive upper bound of the numbers
+         */
+        private final long m_limit;
+
+        /**
+         * ctor
+         *
+         * @param p_bits prime bits
+         * @param p_limit exclusive upper bound
+         */
+        CSnapshot( @Nonnull final long[] p_bits, @Nonnegative final long p_limit )
+        {
+            m_bits = p_bits;
+            m_limit = p_limit;
+        }
+
+        /**
+         * checks an odd number
+         *
+         * @param p_value odd number
+         * @return prime flag
+         */
+        boolean prime( final long p_value )
+        {
+            final long l_index = p_value >>> 1;
+            return ( m_bits[(int) ( l_index >>> 6 )] & ( 1L << l_index ) ) != 0;
+        }
+
+        /**
+         * returns the next prime within the sieve
+         *
+         * @param p_value odd start number
+         * @return prime or zero if no prime exists within the sieve
+         */
+        long next( final long p_value )
+        {
+            final long l_index = p_value >>> 1;
+            int l_word = (int) ( l_index >>> 6 );
+            long l_bits = m_bits[l_word] & ( -1L << l_index );
+
+            while ( l_bits == 0 )
+            {
+                if ( ++l_word == m_bits.length )
+                    return 0;
+                l_bits = m_bits[l_word];
+            }
+
+            return 2 * ( (long) l_word * Long.SIZE + Long.numberOfTrailingZeros( l_bits ) ) + 1;
+        }
+
+        /**
+         * creates a new sieve by sieving the segment
+         * between the current and the new limit
+         *
+         * @param p_limit new exclusive limit
+         * @return new sieve
+         */
+        @Nonnull
+        CSnapshot grow( @Nonnegative final long p_limit )
+        {
+            final long[] l_bits = Arrays.copyOf( m_bits, (int) ( p_limit / WORDNUMBERS ) );
+            Arrays.fill( l_bits, m_bits.length, l_bits.length, -1L );
+            if ( m_limit == 0 )
+                l_bits[0] &= ~1L;
+
+            for ( long i = 3; i * i < p_limit; i += 2 )
+            {
+                final long l_index = i >>> 1;
+                if ( ( l_bits[(int) ( l_index >>> 6 )] & ( 1L << l_index ) ) == 0 )
+                    continue;
+
+                long l_multiple = Math.max( i * i, ( m_limit + i - 1 ) / i * i );
+                if ( ( l_multiple & 1 ) == 0 )
+                    l_multiple += i;
+
+                for ( ; l_multiple < p_limit; l_multiple += 2 * i )
+                    l_bits[(int) ( l_multiple >>> 7 )] &= ~( 1L << ( l_multiple >>> 1 ) );
+            }
+
+            return new CSnapshot( l_bits, p_limit );
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action for adding values to a sliding window.
+ * The first argument is the window, all other unflatten arguments
+ * are added in order, each value in amortised constant time, if
+ * there are more values than the window size only the last values
+ * are added, because all others would be removed immediately
+ *
+ * {@code .math/pushwindow( W, 4, [5, 6] );}
+ */
+public final class CPushWindow extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1100364731194041855L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CPushWindow.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        push( p_argument.get( 0 ).raw(), p_argument.subList( 1, p_argument.size() ) );
+        return Stream.empty();
+    }
+
+    /**
+     * adds values to a window
+     *
+     * @param p_window window
+     * @param p_argument value arguments
+     */
+    static void push( @Nonnull final CWindow p_window, @Nonnull final List<ITerm> p_argument )
+    {
+        final Number l_scalar = CMathCommon.scalar( p_argument );
+        if ( l_scalar != null )
+        {
+            synchronized ( p_window )
+            {
+                p_window.accept( l_scalar.doubleValue() );
+            }
+            return;
+        }
+
+        final double[] l_values = CMathCommon.flatten( p_argument );
+        synchronized ( p_window )
+        {
+            for ( int i = Math.max( 0, l_values.length - p_window.capacity() ); i < l_values.length; i++ )
+                p_window.accept( l_values[i] );
+        }
+    }
+
+}
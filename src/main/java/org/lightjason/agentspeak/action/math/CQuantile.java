@@ -0,0 +1,101 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action for quantiles of a quantile sketch.
+ * The first argument is the sketch, the action returns for
+ * each unflatten argument q in [0, 1] the smallest value with
+ * a rank of at least \f$ \lceil q \cdot n \rceil \f$, e.g. the
+ * median for q = 0.5, on an empty sketch NaN is returned
+ *
+ * {@code [M|P99] = .math/quantile( K, 0.5, 0.99 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Quantile"></a>
+ */
+public final class CQuantile extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6746182304686092673L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CQuantile.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CQuantileSketch l_sketch = p_argument.get( 0 ).raw();
+        final double[] l_values = CMathCommon.flatten( p_argument.subList( 1, p_argument.size() ) );
+        if ( Arrays.stream( l_values ).anyMatch( i -> !( i >= 0 && i <= 1 ) ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "quantilerange" )
+            );
+
+        synchronized ( l_sketch )
+        {
+            for ( int i = 0; i < l_values.length; i++ )
+                l_values[i] = l_sketch.quantile( l_values[i] );
+        }
+
+        CMathCommon.reserve( p_return, l_values.length );
+        for ( final double i : l_values )
+            p_return.add( CTermCache.of( i ) );
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,391 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * mergeable KLL quantile sketch.
+ * The sketch stores the values in a hierarchy of compactors, level h
+ * stores values with the weight \f$ 2^h \f$, the capacities decrease
+ * by the factor 2/3 to the lower levels, so a sketch with size k stores
+ * about 3k values independent of the number of added values, a full
+ * level is sorted and every second value is promoted to the next level.
+ * The sketch size is set by "action.math.sketch.size", the rank error is
+ * about 1.7 % for the default size 200, the results are exact until the
+ * first compaction and minimum and maximum are always exact, NaN values
+ * are ignored
+ *
+ * @see <a href="https://arxiv.org/abs/1603.05346"></a>
+ * @see <a href="https://datasketches.apache.org/docs/KLL/KLLSketch.html"></a>
+ */
+public final class CQuantileSketch implements DoubleConsumer, Serializable
+{
+    /**
+     * default sketch size
+     */
+    static final int SIZE = Math.max( 8, CConfiguration.integer( "sketch.size", 200 ) );
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5520833533850080904L;
+    /**
+     * capacity factor between two levels
+     */
+    private static final double FACTOR = 2.0 / 3.0;
+    /**
+     * minimal capacity of a level
+     */
+    private static final int MINIMALCAPACITY = 2;
+    /**
+     * sketch size
+     */
+    private final int m_k;
+    /**
+     * values of each level
+     */
+    private double[][] m_levels = { new double[MINIMALCAPACITY] };
+    /**
+     * number of values of each level
+     */
+    private int[] m_sizes = { 0 };
+    /**
+     * number of stored values
+     */
+    private int m_size;
+    /**
+     * maximal number of stored values of the current height
+     */
+    private int m_capacity;
+    /**
+     * number of added values
+     */
+    private long m_count;
+    /**
+     * minimum
+     */
+    private double m_min = Double.POSITIVE_INFINITY;
+    /**
+     * maximum
+     */
+    private double m_max = Double.NEGATIVE_INFINITY;
+    /**
+     * state of the compaction coin
+     */
+    private long m_coin = 0x9E3779B97F4A7C15L;
+    /**
+     * sorted stored values
+     */
+    private transient double[] m_sorted;
+    /**
+     * cumulative weights of the sorted values
+     */
+    private transient long[] m_cumulative;
+
+    /**
+     * ctor
+     *
+     * @param p_k sketch size
+     */
+    CQuantileSketch( @Nonnegative final int p_k )
+    {
+        m_k = Math.max( 8, p_k );
+        m_capacity = this.capacity( 0 );
+    }
+
+    @Override
+    public void accept( final double p_value )
+    {
+        if ( Double.isNaN( p_value ) )
+            return;
+
+        m_count++;
+        m_min = Math.min( m_min, p_value );
+        m_max = Math.max( m_max, p_value );
+        m_sorted = null;
+
+        this.append( 0, p_value );
+        if ( m_size >= m_capacity )
+            this.compress();
+    }
+
+    /**
+     * adds all values of another sketch
+     *
+     * @param p_sketch other sketch
+     */
+    public void combine( @Nonnull final CQuantileSketch p_sketch )
+    {
+        if ( p_sketch.m_count == 0 )
+            return;
+
+        while ( m_sizes.length < p_sketch.m_sizes.length )
+            this.grow();
+
+        for ( int i = 0; i < p_sketch.m_sizes.length; i++ )
+            for ( int j = 0; j < p_sketch.m_sizes[i]; j++ )
+                this.append( i, p_sketch.m_levels[i][j] );
+
+        m_count += p_sketch.m_count;
+        m_min = Math.min( m_min, p_sketch.m_min );
+        m_max = Math.max( m_max, p_sketch.m_max );
+        m_sorted = null;
+
+        while ( m_size >= m_capacity )
+            this.compress();
+    }
+
+    /**
+     * returns the number of added values
+     *
+     * @return number of values
+     */
+    @Nonnegative
+    public long count()
+    {
+        return m_count;
+    }
+
+    /**
+     * returns the number of stored values
+     *
+     * @return number of stored values
+     */
+    @Nonnegative
+    public int retained()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns the minimum
+     *
+     * @return minimum or NaN if no value exists
+     */
+    public double min()
+    {
+        return m_count == 0 ? Double.NaN : m_min;
+    }
+
+    /**
+     * returns the maximum
+     *
+     * @return maximum or NaN if no value exists
+     */
+    public double max()
+    {
+        return m_count == 0 ? Double.NaN : m_max;
+    }
+
+    /**
+     * returns the quantile, which is the smallest
+     * value with a rank of at least \f$ \lceil q \cdot n \rceil \f$
+     *
+     * @param p_quantile quantile in [0, 1]
+     * @return value or NaN if no value exists
+     */
+    public double quantile( final double p_quantile )
+    {
+        if ( !( p_quantile >= 0 && p_quantile <= 1 ) )
+            throw new IllegalArgumentException( "quantile must be within [0, 1]" );
+        if ( m_count == 0 )
+            return Double.NaN;
+        if ( p_quantile == 0 )
+            return m_min;
+        if ( p_quantile == 1 )
+            return m_max;
+
+        this.sort();
+        final long l_rank = Math.max( 1, (long) Math.ceil( p_quantile * m_count ) );
+        int l_index = Arrays.binarySearch( m_cumulative, l_rank );
+        if ( l_index < 0 )
+            l_index = -l_index - 1;
+
+        return Math.max( m_min, Math.min( m_max, m_sorted[Math.min( l_index, m_sorted.length - 1 )] ) );
+    }
+
+    /**
+     * returns the cumulative distribution, which
+     * is the fraction of values less or equal a value
+     *
+     * @param p_value value
+     * @return fraction in [0, 1] or NaN if no value exists
+     */
+    public double cdf( final double p_value )
+    {
+        if ( m_count == 0 || Double.isNaN( p_value ) )
+            return Double.NaN;
+        if ( p_value < m_min )
+            return 0;
+        if ( p_value >= m_max )
+            return 1;
+
+        this.sort();
+        int l_low = 0;
+        int l_high = m_sorted.length;
+        while ( l_low < l_high )
+        {
+            final int l_middle = ( l_low + l_high ) >>> 1;
+            if ( m_sorted[l_middle] <= p_value )
+                l_low = l_middle + 1;
+            else
+                l_high = l_middle;
+        }
+
+        return l_low == 0 ? 0 : (double) m_cumulative[l_low - 1] / m_count;
+    }
+
+    /**
+     * returns the capacity of a level
+     *
+     * @param p_level level
+     * @return capacity
+     */
+    @Nonnegative
+    private int capacity( @Nonnegative final int p_level )
+    {
+        return Math.max( MINIMALCAPACITY, (int) Math.ceil( m_k * Math.pow( FACTOR, m_sizes.length - p_level - 1 ) ) );
+    }
+
+    /**
+     * appends a value to a level
+     *
+     * @param p_level level
+     * @param p_value value
+     */
+    private void append( @Nonnegative final int p_level, final double p_value )
+    {
+        if ( m_sizes[p_level] == m_levels[p_level].length )
+            m_levels[p_level] = Arrays.copyOf( m_levels[p_level], 2 * m_levels[p_level].length );
+
+        m_levels[p_level][m_sizes[p_level]++] = p_value;
+        m_size++;
+    }
+
+    /**
+     * adds a level and updates the capacity
+     */
+    private void grow()
+    {
+        m_levels = Arrays.copyOf( m_levels, m_levels.length + 1 );
+        m_levels[m_levels.length - 1] = new double[MINIMALCAPACITY];
+        m_sizes = Arrays.copyOf( m_sizes, m_sizes.length + 1 );
+
+        m_capacity = 0;
+        for ( int i = 0; i < m_sizes.length; i++ )
+            m_capacity += this.capacity( i );
+    }
+
+    /**
+     * compacts the lowest full levels until
+     * the sketch is below its capacity
+     */
+    private void compress()
+    {
+        for ( int i = 0; i < m_sizes.length; i++ )
+            if ( m_sizes[i] >= this.capacity( i ) )
+            {
+                if ( i + 1 == m_sizes.length )
+                    this.grow();
+
+                this.compact( i );
+                if ( m_size < m_capacity )
+                    return;
+            }
+    }
+
+    /**
+     * sorts a level and promotes every second value
+     * with a random offset to the next level, on an
+     * odd number of values the smallest value is kept
+     *
+     * @param p_level level
+     */
+    private void compact( @Nonnegative final int p_level )
+    {
+        final double[] l_values = m_levels[p_level];
+        final int l_size = m_sizes[p_level];
+        final int l_keep = l_size % 2;
+        Arrays.sort( l_values, 0, l_size );
+
+        m_coin ^= m_coin << 13;
+        m_coin ^= m_coin >>> 7;
+        m_coin ^= m_coin << 17;
+        final int l_offset = (int) ( m_coin & 1 );
+
+        m_sizes[p_level] = l_keep;
+        m_size -= l_size - l_keep;
+        for ( int i = l_keep + l_offset; i < l_size; i += 2 )
+            this.append( p_level + 1, l_values[i] );
+    }
+
+    /**
+     * creates the sorted values with cumulative weights by
+     * merging the sorted levels, the result is cached until
+     * the next change of the sketch
+     */
+    private void sort()
+    {
+        if ( m_sorted != null )
+            return;
+
+        double[] l_values = new double[0];
+        long[] l_weights = new long[0];
+        for ( int i = 0; i < m_sizes.length; i++ )
+        {
+            final double[] l_level = Arrays.copyOf( m_levels[i], m_sizes[i] );
+            Arrays.sort( l_level );
+
+            final double[] l_mergevalues = new double[l_values.length + l_level.length];
+            final long[] l_mergeweights = new long[l_mergevalues.length];
+            int l_left = 0;
+            int l_right = 0;
+            for ( int j = 0; j < l_mergevalues.length; j++ )
+                if ( l_right == l_level.length || l_left < l_values.length && l_values[l_left] <= l_level[l_right] )
+                {
+                    l_mergevalues[j] = l_values[l_left];
+                    l_mergeweights[j] = l_weights[l_left++];
+                }
+                else
+                {
+                    l_mergevalues[j] = l_level[l_right++];
+                    l_mergeweights[j] = 1L << i;
+                }
+
+            l_values = l_mergevalues;
+            l_weights = l_mergeweights;
+        }
+
+        for ( int i = 1; i < l_weights.length; i++ )
+            l_weights[i] += l_weights[i - 1];
+
+        m_cumulative = l_weights;
+        m_sorted = l_values;
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * action for rectified linear unit.
+ * Calculates \f$ \max(0, x_i) \f$ for each argument
+ *
+ * {@code [X|Y] = .math/relu( -1, 3 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Rectifier_(neural_networks)"></a>
+ */
+public final class CRelu extends IBaseUnaryAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6917740338581925468L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CRelu.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnull
+    @Override
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
+    {
+        return i -> Math.max( 0, i );
+    }
+
+}
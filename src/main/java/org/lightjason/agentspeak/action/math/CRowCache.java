@@ -0,0 +1,124 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * lazily grown cache of table rows, which are defined
+ * by a recurrence on the previous row. Rows are published
+ * with compare-and-set, so reads are lock-free and threads
+ * which grow the table concurrently need no lock
+ *
+ * @tparam T row type
+ */
+final class CRowCache<T>
+{
+    /**
+     * rows
+     */
+    private final AtomicReferenceArray<T> m_rows;
+    /**
+     * number of published rows
+     */
+    private final AtomicInteger m_size = new AtomicInteger( 1 );
+    /**
+     * recurrence
+     */
+    private final IRecurrence<T> m_recurrence;
+
+    /**
+     * ctor
+     *
+     * @param p_rows number of rows
+     * @param p_first first row
+     * @param p_recurrence recurrence
+     */
+    CRowCache( @Nonnegative final int p_rows, @Nonnull final T p_first, @Nonnull final IRecurrence<T> p_recurrence )
+    {
+        m_rows = new AtomicReferenceArray<>( Math.max( 1, p_rows ) );
+        m_rows.set( 0, p_first );
+        m_recurrence = p_recurrence;
+    }
+
+    /**
+     * returns the number of rows
+     *
+     * @return number of rows
+     */
+    @Nonnegative
+    int rows()
+    {
+        return m_rows.length();
+    }
+
+    /**
+     * returns a row and grows the table
+     *
+     * @param p_index row index less than the number of rows
+     * @return row
+     */
+    @Nonnull
+    T get( @Nonnegative final int p_index )
+    {
+        final int l_size = m_size.get();
+        if ( p_index < l_size )
+            return m_rows.get( p_index );
+
+        T l_row = m_rows.get( l_size - 1 );
+        for ( int i = l_size; i <= p_index; i++ )
+        {
+            final T l_next = m_recurrence.next( l_row, i );
+            l_row = m_rows.compareAndSet( i, null, l_next ) ? l_next : m_rows.get( i );
+            m_size.accumulateAndGet( i + 1, Math::max );
+        }
+
+        return l_row;
+    }
+
+
+    /**
+     * recurrence of the rows
+     *
+     * @tparam T row type
+     */
+    @FunctionalInterface
+    interface IRecurrence<T>
+    {
+        /**
+         * calculates a row
+         *
+         * @param p_previous previous row
+         * @param p_index row index
+         * @return row
+         */
+        @Nonnull
+        T next( @Nonnull T p_previous, @Nonnegative int p_index );
+    }
+
+}
@@ -23,19 +23,13 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
-import org.lightjason.agentspeak.language.execution.IContext;
-import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.DoubleUnaryOperator;
 
 
 /**
@@ -44,13 +38,16 @@ import java.util.stream.Stream;
  * of the function is \f$ \frac{\alpha}{ \beta + e^{ - \gamma \cdot t }} \f$
  * \f$ \alpha \f$ is the first, \f$ \beta \f$ the second and \f$ \gamma \f$ the third
  * argument, all values beginning at the fourth position will be used for t, so the
- * action returns all values
+ * action returns all values. If "action.math.sigmoid.approximate" or
+ * "action.math.approximate" is set and
+ * \f$ \beta = 1 \f$, the logistic function is read from a table with linear
+ * interpolation, the absolute error is less than \f$ 7.5 \cdot 10^{-7} \cdot |\alpha| \f$
  *
  * {@code [A | B | C] = .math/sigmoid( 1, 1, 1, 10, 20, 30 );}
  *
  * @see <a href="https://en.wikipedia.org/wiki/Sigmoid_function"></a>
  */
-public final class CSigmoid extends IBaseAction
+public final class CSigmoid extends IBaseUnaryAction
 {
     /**
      * serial id
@@ -60,6 +57,10 @@ public final class CSigmoid extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CSigmoid.class, "math" );
+    /**
+     * approximation flag
+     */
+    private static final boolean APPROXIMATE = CApproximation.enabled( "sigmoid" );
 
     @Nonnull
     @Override
@@ -77,25 +78,22 @@ public final class CSigmoid extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
-    )
+    protected List<ITerm> arguments( @Nonnull final List<ITerm> p_argument )
     {
-        final Function<Double, Double> l_sigmoid = i -> p_argument.get( 0 ).<Number>raw().doubleValue()
-                                                        / ( p_argument.get( 1 ).<Number>raw().doubleValue()
-                                                            + Math.exp( -p_argument.get( 2 ).<Number>raw().doubleValue() * i )
-                                                        );
+        return p_argument.subList( 2, p_argument.size() );
+    }
 
-        CCommon.flatten( p_argument )
-               .skip( 2 )
-               .map( ITerm::<Number>raw )
-               .mapToDouble( Number::doubleValue )
-               .boxed()
-               .map( l_sigmoid )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+    @Nonnull
+    @Override
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
+    {
+        final double l_alpha = p_argument.get( 0 ).<Number>raw().doubleValue();
+        final double l_beta = p_argument.get( 1 ).<Number>raw().doubleValue();
+        final double l_gamma = p_argument.get( 2 ).<Number>raw().doubleValue();
 
-        return Stream.empty();
+        return APPROXIMATE && l_beta == 1
+               ? i -> l_alpha * CLogisticTable.logistic( l_gamma * i )
+               : i -> l_alpha / ( l_beta + Math.exp( -l_gamma * i ) );
     }
 
 }
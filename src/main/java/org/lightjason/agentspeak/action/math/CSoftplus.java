@@ -0,0 +1,68 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+
+/**
+ * action for softplus function.
+ * Calculates \f$ \ln( 1 + e^{x_i} ) \f$ for each argument,
+ * large arguments are calculated without overflow
+ *
+ * {@code [X|Y] = .math/softplus( -1, 3 );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Softplus"></a>
+ */
+public final class CSoftplus extends IBaseUnaryAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3153488232519917063L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSoftplus.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnull
+    @Override
+    protected DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument )
+    {
+        return i -> i > 0 ? i + Math.log1p( Math.exp( -i ) ) : Math.log1p( Math.exp( i ) );
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action for reading values of a running statistic.
+ * The first argument is the running statistic, the following
+ * string arguments are the names of the values "count", "sum",
+ * "min", "max", "mean", "variance", "standarddeviation", "skewness"
+ * or "kurtosis", without names all values are returned in this order
+ *
+ * {@code [N|M] = .math/statisticvalue( S, "count", "mean" );}
+ * {@code [N|S|Min|Max|Mean|Var|SD|Skew|Kurt] = .math/statisticvalue( S );}
+ */
+public final class CStatisticValue extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -4756790928434550612L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CStatisticValue.class, "math" );
+    /**
+     * all values
+     */
+    private static final EStatisticValue[] VALUES = EStatisticValue.values();
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CMoments l_moments = p_argument.get( 0 ).raw();
+        final EStatisticValue[] l_values;
+        try
+        {
+            l_values = p_argument.size() == 1
+                       ? VALUES
+                       : p_argument.stream().skip( 1 ).map( i -> EStatisticValue.from( i.raw() ) ).toArray( EStatisticValue[]::new );
+        }
+        catch ( final IllegalArgumentException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownvalue" )
+            );
+        }
+
+        CMathCommon.reserve( p_return, l_values.length );
+        synchronized ( l_moments )
+        {
+            for ( final EStatisticValue i : l_values )
+                p_return.add( CTermCache.of( i.apply( l_moments ) ) );
+        }
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionException;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action for descriptive statistics.
+ * The action calculates in a single pass over all unflatten
+ * arguments the number of values, sum, minimum, maximum, mean,
+ * sample variance, sample standard deviation, skewness and
+ * excess kurtosis and returns them in this order
+ *
+ * {@code [N|S|Min|Max|Mean|Var|SD|Skew|Kurt] = .math/statistics( 1, 3, 9, [10, [11, 12]] );}
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Descriptive_statistics"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance"></a>
+ */
+public final class CStatistics extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2190568470862367219L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CStatistics.class, "math" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CMoments l_moments = CMathCommon.collect( p_parallel, p_argument, CMoments::new, CMoments::combine );
+        if ( l_moments.count() == 0 )
+            throw new CExecutionException( p_context );
+
+        CMathCommon.reserve( p_return, 9 );
+        p_return.add( CRawTerm.of( (double) l_moments.count() ) );
+        p_return.add( CRawTerm.of( l_moments.sum() ) );
+        p_return.add( CRawTerm.of( l_moments.min() ) );
+        p_return.add( CRawTerm.of( l_moments.max() ) );
+        p_return.add( CRawTerm.of( l_moments.mean() ) );
+        p_return.add( CRawTerm.of( l_moments.variance() ) );
+        p_return.add( CRawTerm.of( l_moments.standarddeviation() ) );
+        p_return.add( CRawTerm.of( l_moments.skewness() ) );
+        p_return.add( CRawTerm.of( l_moments.kurtosis() ) );
+
+        return Stream.empty();
+    }
+
+}
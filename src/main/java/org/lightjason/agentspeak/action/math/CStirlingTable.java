@@ -0,0 +1,208 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.apache.commons.math3.exception.MathArithmeticException;
+import org.apache.commons.math3.util.CombinatoricsUtils;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.math.BigInteger;
+
+
+/**
+ * JVM-wide triangular tables of the Stirling numbers of the second kind.
+ * The long table marks values outside of the long range with -1, the
+ * arbitrary-precision table contains all values, both tables have the
+ * number of rows "action.math.stirling.rows" and are grown lazily by
+ * the recurrence \f$ S(n,k) = k \cdot S(n-1,k) + S(n-1,k-1) \f$
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Stirling_numbers_of_the_second_kind"></a>
+ */
+final class CStirlingTable
+{
+    /**
+     * number of cached rows
+     */
+    static final int ROWS = Math.max( 2, CConfiguration.integer( "stirling.rows", 256 ) );
+    /**
+     * long rows
+     */
+    private static final CRowCache<long[]> EXACT = new CRowCache<>( ROWS, new long[]{1}, CStirlingTable::next );
+    /**
+     * arbitrary-precision rows
+     */
+    private static final CRowCache<BigInteger[]> BIG = new CRowCache<>( ROWS, new BigInteger[]{BigInteger.ONE}, CStirlingTable::next );
+    /**
+     * bits of a value, which are used for the logarithm
+     */
+    private static final int LOGBITS = 128;
+
+    /**
+     * ctor
+     */
+    private CStirlingTable()
+    {
+    }
+
+
+    /**
+     * exact Stirling number
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return Stirling number
+     * @throws org.apache.commons.math3.exception.MathArithmeticException if the result exceeds the long range
+     */
+    static long stirling( final int p_n, final int p_k )
+    {
+        if ( p_k < 0 || p_k > p_n )
+            return CombinatoricsUtils.stirlingS2( p_n, p_k );
+
+        if ( p_n >= ROWS )
+        {
+            final BigInteger l_value = explicit( p_n, p_k );
+            if ( l_value.bitLength() >= Long.SIZE )
+                throw new MathArithmeticException();
+            return l_value.longValue();
+        }
+
+        final long l_value = EXACT.get( p_n )[p_k];
+        if ( l_value < 0 )
+            throw new MathArithmeticException();
+        return l_value;
+    }
+
+    /**
+     * arbitrary-precision Stirling number, values outside
+     * of the table are calculated by the explicit formula
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return Stirling number
+     */
+    @Nonnull
+    static BigInteger stirlingbig( final int p_n, final int p_k )
+    {
+        if ( p_k < 0 || p_k > p_n )
+            return BigInteger.valueOf( CombinatoricsUtils.stirlingS2( p_n, p_k ) );
+
+        return p_n < ROWS ? BIG.get( p_n )[p_k] : explicit( p_n, p_k );
+    }
+
+    /**
+     * floating-point Stirling number
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return Stirling number or infinity
+     */
+    static double stirlingdouble( final int p_n, final int p_k )
+    {
+        return stirlingbig( p_n, p_k ).doubleValue();
+    }
+
+    /**
+     * logarithm of the Stirling number
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return natural logarithm of the Stirling number
+     */
+    static double stirlinglog( final int p_n, final int p_k )
+    {
+        final BigInteger l_value = stirlingbig( p_n, p_k );
+        final int l_shift = Math.max( 0, l_value.bitLength() - LOGBITS );
+        return Math.log( l_value.shiftRight( l_shift ).doubleValue() ) + l_shift * Math.log( 2 );
+    }
+
+
+    /**
+     * explicit formula \f$ S(n,k) = \frac{1}{k!} \sum_{j=0}^k (-1)^j \binom{k}{j} (k-j)^n \f$
+     *
+     * @param p_n n
+     * @param p_k k
+     * @return Stirling number
+     */
+    @Nonnull
+    private static BigInteger explicit( @Nonnegative final int p_n, @Nonnegative final int p_k )
+    {
+        BigInteger l_sum = BigInteger.ZERO;
+        BigInteger l_binomial = BigInteger.ONE;
+        for ( int j = 0; j <= p_k; j++ )
+        {
+            final BigInteger l_term = l_binomial.multiply( BigInteger.valueOf( p_k - j ).pow( p_n ) );
+            l_sum = ( j & 1 ) == 0 ? l_sum.add( l_term ) : l_sum.subtract( l_term );
+            l_binomial = l_binomial.multiply( BigInteger.valueOf( p_k - j ) ).divide( BigInteger.valueOf( j + 1 ) );
+        }
+        return l_sum.divide( CCombinatorics.factorialbig( false, p_k ) );
+    }
+
+    /**
+     * calculates a long row, values outside of the
+     * long range and their successors are marked with -1
+     *
+     * @param p_previous previous row
+     * @param p_n row index
+     * @return row
+     */
+    @Nonnull
+    private static long[] next( @Nonnull final long[] p_previous, @Nonnegative final int p_n )
+    {
+        final long[] l_row = new long[p_n + 1];
+        l_row[p_n] = 1;
+
+        for ( int k = 1; k < p_n; k++ )
+        {
+            final long l_left = p_previous[k];
+            final long l_right = p_previous[k - 1];
+            l_row[k] = l_left < 0 || l_right < 0 || l_left > ( Long.MAX_VALUE - l_right ) / k
+                       ? -1
+                       : k * l_left + l_right;
+        }
+
+        return l_row;
+    }
+
+    /**
+     * calculates an arbitrary-precision row
+     *
+     * @param p_previous previous row
+     * @param p_n row index
+     * @return row
+     */
+    @Nonnull
+    private static BigInteger[] next( @Nonnull final BigInteger[] p_previous, @Nonnegative final int p_n )
+    {
+        final BigInteger[] l_row = new BigInteger[p_n + 1];
+        l_row[0] = BigInteger.ZERO;
+        l_row[p_n] = BigInteger.ONE;
+
+        for ( int k = 1; k < p_n; k++ )
+            l_row[k] = p_previous[k].multiply( BigInteger.valueOf( k ) ).add( p_previous[k - 1] );
+
+        return l_row;
+    }
+
+}
@@ -23,9 +23,7 @@
 
 package org.lightjason.agentspeak.action.math;
 
-import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -39,11 +37,12 @@ import java.util.stream.Stream;
 
 /**
  * action for sum of elements.
- * Sums all unflatten arguments \f$ \sum_{i} x_i \f$
+ * Sums all unflatten arguments \f$ \sum_{i} x_i \f$ with
+ * the configured summation engine
  *
  * {@code S = .math/sum( 3, 4, [1, -5, [3, 4]], 10, 12);}
  */
-public final class CSum extends IBaseAction
+public final class CSum extends IBaseMathAction
 {
     /**
      * serial id
@@ -70,15 +69,16 @@ public final class CSum extends IBaseAction
 
     @Nonnull
     @Override
-    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
-                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
+        final Number l_scalar = CMathCommon.scalar( p_argument );
         p_return.add(
             CRawTerm.of(
-                CCommon.flatten( p_argument )
-                       .map( ITerm::<Number>raw )
-                       .mapToDouble( Number::doubleValue ).sum()
+                l_scalar != null
+                ? l_scalar.doubleValue()
+                : ESummation.DEFAULT.sum( p_parallel, CMathCommon.flatten( p_argument ) )
             )
         );
         return Stream.empty();
@@ -0,0 +1,116 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.stream.IntStream;
+
+
+/**
+ * shared immutable result terms.
+ * Boolean values and integral values within the range
+ * "action.math.termcache.minimum" to "action.math.termcache.maximum"
+ * are created once as double and long terms and reused by all
+ * actions, all other values create a new term
+ */
+final class CTermCache
+{
+    /**
+     * smallest cached integral value
+     */
+    static final int MINIMUM = CConfiguration.integer( "termcache.minimum", -128 );
+    /**
+     * largest cached integral value
+     */
+    static final int MAXIMUM = Math.max( MINIMUM - 1, CConfiguration.integer( "termcache.maximum", 1024 ) );
+    /**
+     * true term
+     */
+    private static final ITerm TRUE = CRawTerm.of( true );
+    /**
+     * false term
+     */
+    private static final ITerm FALSE = CRawTerm.of( false );
+    /**
+     * double terms
+     */
+    private static final ITerm[] DOUBLES = IntStream.rangeClosed( MINIMUM, MAXIMUM ).mapToObj( i -> CRawTerm.of( (double) i ) ).toArray( ITerm[]::new );
+    /**
+     * long terms
+     */
+    private static final ITerm[] LONGS = IntStream.rangeClosed( MINIMUM, MAXIMUM ).mapToObj( i -> CRawTerm.of( (long) i ) ).toArray( ITerm[]::new );
+
+    /**
+     * ctor
+     */
+    private CTermCache()
+    {
+    }
+
+    /**
+     * returns a boolean term
+     *
+     * @param p_value value
+     * @return shared term
+     */
+    @Nonnull
+    static ITerm of( final boolean p_value )
+    {
+        return p_value ? TRUE : FALSE;
+    }
+
+    /**
+     * returns a long term
+     *
+     * @param p_value value
+     * @return shared or new term
+     */
+    @Nonnull
+    static ITerm of( final long p_value )
+    {
+        return p_value >= MINIMUM && p_value <= MAXIMUM
+               ? LONGS[(int) ( p_value - MINIMUM )]
+               : CRawTerm.of( p_value );
+    }
+
+    /**
+     * returns a double term, negative zero
+     * is not cached to keep its sign
+     *
+     * @param p_value value
+     * @return shared or new term
+     */
+    @Nonnull
+    static ITerm of( final double p_value )
+    {
+        final long l_value = (long) p_value;
+        return l_value == p_value && l_value >= MINIMUM && l_value <= MAXIMUM && ( l_value != 0 || Double.doubleToRawLongBits( p_value ) == 0 )
+               ? DOUBLES[(int) ( l_value - MINIMUM )]
+               : CRawTerm.of( p_value );
+    }
+
+}
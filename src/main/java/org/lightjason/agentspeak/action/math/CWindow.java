@@ -0,0 +1,312 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * sliding window over the last n values.
+ * The values are stored in a primitive ring buffer, the sum is a
+ * compensated running sum, which is recalculated after every n values
+ * to bound the rounding drift, minimum and maximum are the fronts of
+ * monotonic deques, so each value is added in amortised constant time,
+ * NaN values are counted within the window and make all values NaN,
+ * infinite values are counted separately and are not part of the running sum
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Kahan_summation_algorithm#Further_enhancements"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Sliding_window_protocol"></a>
+ */
+public final class CWindow implements DoubleConsumer, Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 126800964929826721L;
+    /**
+     * ring buffer of the values
+     */
+    private final double[] m_values;
+    /**
+     * deque of the sequence numbers of decreasing values
+     */
+    private final long[] m_max;
+    /**
+     * deque of the sequence numbers of increasing values
+     */
+    private final long[] m_min;
+    /**
+     * number of all added values
+     */
+    private long m_count;
+    /**
+     * number of NaN values within the window
+     */
+    private int m_nan;
+    /**
+     * number of positive infinite values within the window
+     */
+    private int m_positive;
+    /**
+     * number of negative infinite values within the window
+     */
+    private int m_negative;
+    /**
+     * running sum
+     */
+    private double m_sum;
+    /**
+     * compensation of the running sum
+     */
+    private double m_compensation;
+    /**
+     * head of the maximum deque
+     */
+    private int m_maxhead;
+    /**
+     * size of the maximum deque
+     */
+    private int m_maxsize;
+    /**
+     * head of the minimum deque
+     */
+    private int m_minhead;
+    /**
+     * size of the minimum deque
+     */
+    private int m_minsize;
+
+    /**
+     * ctor
+     *
+     * @param p_capacity window size
+     */
+    CWindow( @Nonnegative final int p_capacity )
+    {
+        if ( p_capacity < 1 )
+            throw new IllegalArgumentException( "window size must be positive" );
+
+        m_values = new double[p_capacity];
+        m_max = new long[p_capacity];
+        m_min = new long[p_capacity];
+    }
+
+    @Override
+    public void accept( final double p_value )
+    {
+        final int l_capacity = m_values.length;
+        final int l_slot = (int) ( m_count % l_capacity );
+
+        if ( m_count >= l_capacity )
+        {
+            this.remove( m_values[l_slot] );
+
+            final long l_expired = m_count - l_capacity;
+            if ( m_maxsize > 0 && m_max[m_maxhead] == l_expired )
+            {
+                m_maxhead = ( m_maxhead + 1 ) % l_capacity;
+                m_maxsize--;
+            }
+            if ( m_minsize > 0 && m_min[m_minhead] == l_expired )
+            {
+                m_minhead = ( m_minhead + 1 ) % l_capacity;
+                m_minsize--;
+            }
+        }
+
+        m_values[l_slot] = p_value;
+        if ( Double.isNaN( p_value ) )
+            m_nan++;
+        else
+        {
+            this.insert( p_value );
+
+            while ( m_maxsize > 0 && this.value( m_max, m_maxhead + m_maxsize - 1 ) <= p_value )
+                m_maxsize--;
+            m_max[( m_maxhead + m_maxsize++ ) % l_capacity] = m_count;
+
+            while ( m_minsize > 0 && this.value( m_min, m_minhead + m_minsize - 1 ) >= p_value )
+                m_minsize--;
+            m_min[( m_minhead + m_minsize++ ) % l_capacity] = m_count;
+        }
+
+        m_count++;
+        if ( m_count % l_capacity == 0 )
+            this.recalculate();
+    }
+
+    /**
+     * returns the window size
+     *
+     * @return maximal number of values
+     */
+    @Nonnegative
+    public int capacity()
+    {
+        return m_values.length;
+    }
+
+    /**
+     * returns the number of values within the window
+     *
+     * @return number of values
+     */
+    @Nonnegative
+    public int count()
+    {
+        return (int) Math.min( m_count, m_values.length );
+    }
+
+    /**
+     * returns the sum of the window
+     *
+     * @return sum, zero for an empty window
+     */
+    public double sum()
+    {
+        if ( m_nan > 0 || m_positive > 0 && m_negative > 0 )
+            return Double.NaN;
+        if ( m_positive > 0 )
+            return Double.POSITIVE_INFINITY;
+        if ( m_negative > 0 )
+            return Double.NEGATIVE_INFINITY;
+        return m_sum + m_compensation;
+    }
+
+    /**
+     * returns the mean of the window
+     *
+     * @return mean or NaN for an empty window
+     */
+    public double mean()
+    {
+        return this.count() == 0 ? Double.NaN : this.sum() / this.count();
+    }
+
+    /**
+     * returns the minimum of the window
+     *
+     * @return minimum or NaN for an empty window
+     */
+    public double min()
+    {
+        return m_nan > 0 || m_minsize == 0 ? Double.NaN : this.value( m_min, m_minhead );
+    }
+
+    /**
+     * returns the maximum of the window
+     *
+     * @return maximum or NaN for an empty window
+     */
+    public double max()
+    {
+        return m_nan > 0 || m_maxsize == 0 ? Double.NaN : this.value( m_max, m_maxhead );
+    }
+
+    /**
+     * returns the values of the window
+     *
+     * @return values from the oldest to the newest
+     */
+    @Nonnull
+    public double[] toDoubleArray()
+    {
+        final int l_count = this.count();
+        final double[] l_values = new double[l_count];
+        for ( int i = 0; i < l_count; i++ )
+            l_values[i] = m_values[(int) ( ( m_count - l_count + i ) % m_values.length )];
+        return l_values;
+    }
+
+    /**
+     * returns the value of a deque element
+     *
+     * @param p_deque deque
+     * @param p_index unbounded ring index
+     * @return value
+     */
+    private double value( @Nonnull final long[] p_deque, @Nonnegative final int p_index )
+    {
+        return m_values[(int) ( p_deque[p_index % m_values.length] % m_values.length )];
+    }
+
+    /**
+     * adds a non-NaN value to the counters or the compensated sum
+     *
+     * @param p_value value
+     */
+    private void insert( final double p_value )
+    {
+        if ( p_value == Double.POSITIVE_INFINITY )
+            m_positive++;
+        else if ( p_value == Double.NEGATIVE_INFINITY )
+            m_negative++;
+        else
+            this.add( p_value );
+    }
+
+    /**
+     * removes an expired value from the counters or the compensated sum
+     *
+     * @param p_value value
+     */
+    private void remove( final double p_value )
+    {
+        if ( Double.isNaN( p_value ) )
+            m_nan--;
+        else if ( p_value == Double.POSITIVE_INFINITY )
+            m_positive--;
+        else if ( p_value == Double.NEGATIVE_INFINITY )
+            m_negative--;
+        else
+            this.add( -p_value );
+    }
+
+    /**
+     * adds a finite value to the compensated sum
+     *
+     * @param p_value value
+     */
+    private void add( final double p_value )
+    {
+        final double l_sum = m_sum + p_value;
+        m_compensation += Math.abs( m_sum ) >= Math.abs( p_value ) ? m_sum - l_sum + p_value : p_value - l_sum + m_sum;
+        m_sum = l_sum;
+    }
+
+    /**
+     * recalculates the sum of the full window
+     */
+    private void recalculate()
+    {
+        m_sum = 0;
+        m_compensation = 0;
+        for ( final double i : m_values )
+            if ( Double.isFinite( i ) )
+                this.add( i );
+    }
+
+}
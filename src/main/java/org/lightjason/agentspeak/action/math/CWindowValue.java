@@ -0,0 +1,108 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action for reading values of a sliding window.
+ * The first argument is the window, the following string
+ * arguments are the names of the values "count", "sum", "min",
+ * "max" or "mean", without names all values are returned
+ * in this order
+ *
+ * {@code [A|M] = .math/windowvalue( W, "mean", "max" );}
+ * {@code [N|S|Min|Max|Mean] = .math/windowvalue( W );}
+ */
+public final class CWindowValue extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3539755214047067980L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CWindowValue.class, "math" );
+    /**
+     * all values
+     */
+    private static final EWindowValue[] VALUES = EWindowValue.values();
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    protected Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                          @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final CWindow l_window = p_argument.get( 0 ).raw();
+        final EWindowValue[] l_values;
+        try
+        {
+            l_values = p_argument.size() == 1
+                       ? VALUES
+                       : p_argument.stream().skip( 1 ).map( i -> EWindowValue.from( i.raw() ) ).toArray( EWindowValue[]::new );
+        }
+        catch ( final IllegalArgumentException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownvalue" )
+            );
+        }
+
+        CMathCommon.reserve( p_return, l_values.length );
+        synchronized ( l_window )
+        {
+            for ( final EWindowValue i : l_values )
+                p_return.add( CTermCache.of( i.apply( l_window ) ) );
+        }
+
+        return Stream.empty();
+    }
+
+}
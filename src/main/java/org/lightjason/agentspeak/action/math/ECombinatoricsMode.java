@@ -0,0 +1,107 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * result modes of the combinatoric actions.
+ * The mode is set by an optional leading string argument,
+ * without this argument the exact long mode is used
+ *
+ * {@code [A|B] = .math/factorial( "log", 1000, 5000 );}
+ */
+public enum ECombinatoricsMode
+{
+    /**
+     * exact long value, an overflow throws an exception
+     */
+    EXACT,
+    /**
+     * floating-point value, an overflow returns infinity
+     */
+    DOUBLE,
+    /**
+     * natural logarithm of the value
+     */
+    LOG,
+    /**
+     * exact arbitrary-precision value
+     */
+    BIGINTEGER;
+
+
+    /**
+     * returns the mode by name
+     *
+     * @param p_name name
+     * @return mode
+     */
+    @Nonnull
+    public static ECombinatoricsMode from( @Nonnull final String p_name )
+    {
+        return ECombinatoricsMode.valueOf( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * returns the mode of the action arguments
+     *
+     * @param p_argument action arguments
+     * @return mode
+     */
+    @Nonnull
+    static ECombinatoricsMode of( @Nonnull final List<ITerm> p_argument )
+    {
+        return leading( p_argument ) ? from( p_argument.get( 0 ).<String>raw() ) : EXACT;
+    }
+
+    /**
+     * returns the arguments without the mode
+     *
+     * @param p_argument action arguments
+     * @return value arguments
+     */
+    @Nonnull
+    static List<ITerm> arguments( @Nonnull final List<ITerm> p_argument )
+    {
+        return leading( p_argument ) ? p_argument.subList( 1, p_argument.size() ) : p_argument;
+    }
+
+    /**
+     * checks if the first argument is a mode
+     *
+     * @param p_argument action arguments
+     * @return leading mode flag
+     */
+    private static boolean leading( @Nonnull final List<ITerm> p_argument )
+    {
+        return !p_argument.isEmpty() && p_argument.get( 0 ).raw() instanceof String;
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * execution path of an action call.
+ * The path is recorded by the branches of the
+ * action within the calling thread, a call without
+ * any recorded branch is sequential
+ */
+enum EExecutionPath
+{
+    /**
+     * single scalar argument
+     */
+    SCALAR,
+    /**
+     * sequential calculation
+     */
+    SEQUENTIAL,
+    /**
+     * parallel calculation
+     */
+    PARALLEL,
+    /**
+     * calculation by the vector backend
+     */
+    VECTOR,
+    /**
+     * values are read from a memoization cache
+     */
+    CACHED;
+
+    /**
+     * path of the current call within the thread
+     */
+    private static final ThreadLocal<EExecutionPath[]> CURRENT = ThreadLocal.withInitial( () -> new EExecutionPath[]{ SEQUENTIAL } );
+
+
+    /**
+     * records the path of the current call,
+     * if execution events are enabled
+     *
+     * @param p_path path
+     */
+    static void record( @Nonnull final EExecutionPath p_path )
+    {
+        if ( CExecutionEvent.enabled() )
+            CURRENT.get()[0] = p_path;
+    }
+
+    /**
+     * resets the path of the current call
+     */
+    static void reset()
+    {
+        CURRENT.get()[0] = SEQUENTIAL;
+    }
+
+    /**
+     * returns the path of the current call
+     *
+     * @param p_cached flag that values are read from a cache
+     * @return path
+     */
+    @Nonnull
+    static EExecutionPath current( final boolean p_cached )
+    {
+        return p_cached ? CACHED : CURRENT.get()[0];
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnull;
+import java.util.Locale;
+
+
+/**
+ * values of a running statistic.
+ * The value is selected by name on the action
+ * "statisticvalue", all values are undefined (NaN)
+ * if the statistic contains no value
+ *
+ * {@code [M|V] = .math/statisticvalue( S, "mean", "variance" );}
+ */
+public enum EStatisticValue
+{
+    /**
+     * number of values
+     */
+    COUNT,
+    /**
+     * sum
+     */
+    SUM,
+    /**
+     * minimum
+     */
+    MIN,
+    /**
+     * maximum
+     */
+    MAX,
+    /**
+     * arithmetic mean
+     */
+    MEAN,
+    /**
+     * sample variance
+     */
+    VARIANCE,
+    /**
+     * sample standard deviation
+     */
+    STANDARDDEVIATION,
+    /**
+     * sample skewness
+     */
+    SKEWNESS,
+    /**
+     * sample excess kurtosis
+     */
+    KURTOSIS;
+
+
+    /**
+     * returns the value by name
+     *
+     * @param p_name name
+     * @return value
+     */
+    @Nonnull
+    public static EStatisticValue from( @Nonnull final String p_name )
+    {
+        return EStatisticValue.valueOf( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * reads the value of a statistic
+     *
+     * @param p_moments statistic
+     * @return value
+     */
+    public double apply( @Nonnull final CMoments p_moments )
+    {
+        switch ( this )
+        {
+            case COUNT:
+                return p_moments.count();
+
+            case SUM:
+                return p_moments.sum();
+
+            case MIN:
+                return p_moments.min();
+
+            case MAX:
+                return p_moments.max();
+
+            case MEAN:
+                return p_moments.mean();
+
+            case VARIANCE:
+                return p_moments.variance();
+
+            case STANDARDDEVIATION:
+                return p_moments.standarddeviation();
+
+            case SKEWNESS:
+                return p_moments.skewness();
+
+            case KURTOSIS:
+                return p_moments.kurtosis();
+
+            default:
+                throw new IllegalStateException( this.name() );
+        }
+    }
+
+}
@@ -0,0 +1,326 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * summation engines.
+ * The default engine is set by the configuration key "action.math.summation",
+ * parallel summations are split into fixed blocks, which are combined in order,
+ * so the result does not depend on the number of threads
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Kahan_summation_algorithm"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Pairwise_summation"></a>
+ */
+public enum ESummation
+{
+    /**
+     * naive summation with an error of \f$ O( n \epsilon ) \f$
+     */
+    NAIVE
+    {
+        @Nonnull
+        @Override
+        public IAccumulator accumulator()
+        {
+            return new CNaive();
+        }
+    },
+    /**
+     * compensated Kahan-Babuska-Neumaier summation
+     * with an error of \f$ O( \epsilon ) \f$
+     */
+    KAHAN
+    {
+        @Nonnull
+        @Override
+        public IAccumulator accumulator()
+        {
+            return new CKahan();
+        }
+    },
+    /**
+     * cascade pairwise summation with an error of \f$ O( \epsilon \log n ) \f$
+     */
+    PAIRWISE
+    {
+        @Nonnull
+        @Override
+        public IAccumulator accumulator()
+        {
+            return new CPairwise();
+        }
+    };
+
+    /**
+     * configured engine
+     */
+    public static final ESummation DEFAULT = ESummation.from( CConfiguration.string( "summation", "kahan" ) );
+
+
+    /**
+     * creates an empty accumulator
+     *
+     * @return accumulator
+     */
+    @Nonnull
+    public abstract IAccumulator accumulator();
+
+    /**
+     * sums an array range
+     *
+     * @param p_values values
+     * @param p_from inclusive start index
+     * @param p_to exclusive end index
+     * @return sum
+     */
+    public final double sum( @Nonnull final double[] p_values, @Nonnegative final int p_from, @Nonnegative final int p_to )
+    {
+        final IAccumulator l_accumulator = this.accumulator();
+        for ( int i = p_from; i < p_to; i++ )
+            l_accumulator.accept( p_values[i] );
+        return l_accumulator.get();
+    }
+
+    /**
+     * sums an array, on parallel calls above the
+     * threshold the sum is calculated on fixed blocks
+     *
+     * @param p_parallel parallel flag of the action call
+     * @param p_values values
+     * @return sum
+     */
+    public final double sum( final boolean p_parallel, @Nonnull final double[] p_values )
+    {
+        return CMathCommon.parallel( p_parallel, p_values.length )
+               ? CMathCommon.collect( true, p_values, this::accumulator, IAccumulator::combine ).get()
+               : this.sum( p_values, 0, p_values.length );
+    }
+
+    /**
+     * returns the engine by name
+     *
+     * @param p_name name
+     * @return engine
+     */
+    @Nonnull
+    public static ESummation from( @Nonnull final String p_name )
+    {
+        return ESummation.valueOf( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+
+    /**
+     * combinable and serializable summation accumulator
+     */
+    public interface IAccumulator extends DoubleConsumer, Serializable
+    {
+        /**
+         * adds the values of another accumulator
+         *
+         * @param p_accumulator accumulator of the same engine
+         */
+        void combine( @Nonnull final IAccumulator p_accumulator );
+
+        /**
+         * returns the sum
+         *
+         * @return sum
+         */
+        double get();
+    }
+
+
+    /**
+     * naive accumulator
+     */
+    private static final class CNaive implements IAccumulator
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -7188536481533917196L;
+        /**
+         * sum
+         */
+        private double m_sum;
+
+        @Override
+        public void accept( final double p_value )
+        {
+            m_sum += p_value;
+        }
+
+        @Override
+        public void combine( @Nonnull final IAccumulator p_accumulator )
+        {
+            m_sum += p_accumulator.get();
+        }
+
+        @Override
+        public double get()
+        {
+            return m_sum;
+        }
+    }
+
+
+    /**
+     * Kahan-Babuska-Neumaier accumulator
+     */
+    private static final class CKahan implements IAccumulator
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 7652102777077138150L;
+        /**
+         * sum
+         */
+        private double m_sum;
+        /**
+         * compensation
+         */
+        private double m_compensation;
+        /**
+         * naive sum to return infinite values correctly
+         */
+        private double m_simple;
+
+        @Override
+        public void accept( final double p_value )
+        {
+            final double l_sum = m_sum + p_value;
+            m_compensation += Math.abs( m_sum ) >= Math.abs( p_value )
+                              ? ( m_sum - l_sum ) + p_value
+                              : ( p_value - l_sum ) + m_sum;
+            m_sum = l_sum;
+            m_simple += p_value;
+        }
+
+        @Override
+        public void combine( @Nonnull final IAccumulator p_accumulator )
+        {
+            final CKahan l_other = (CKahan) p_accumulator;
+            final double l_simple = m_simple + l_other.m_simple;
+
+            this.accept( l_other.m_sum );
+            m_compensation += l_other.m_compensation;
+            m_simple = l_simple;
+        }
+
+        @Override
+        public double get()
+        {
+            final double l_sum = m_sum + m_compensation;
+            return Double.isNaN( l_sum ) && Double.isInfinite( m_simple ) ? m_simple : l_sum;
+        }
+    }
+
+
+    /**
+     * cascade pairwise accumulator, values are summed
+     * in blocks and the block sums are merged like a
+     * binary counter, so each level holds the sum of
+     * \f$ 2^i \f$ blocks
+     */
+    private static final class CPairwise implements IAccumulator
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 2829213282471975079L;
+        /**
+         * block size
+         */
+        private static final int BLOCK = 128;
+        /**
+         * partial sums of each level
+         */
+        private final double[] m_level = new double[Long.SIZE];
+        /**
+         * number of merged blocks
+         */
+        private long m_blocks;
+        /**
+         * sum of the current block
+         */
+        private double m_block;
+        /**
+         * number of values within the current block
+         */
+        private int m_count;
+
+        @Override
+        public void accept( final double p_value )
+        {
+            m_block += p_value;
+            if ( ++m_count < BLOCK )
+                return;
+
+            this.push( m_block );
+            m_block = 0;
+            m_count = 0;
+        }
+
+        @Override
+        public void combine( @Nonnull final IAccumulator p_accumulator )
+        {
+            this.push( p_accumulator.get() );
+        }
+
+        @Override
+        public double get()
+        {
+            double l_sum = m_block;
+            for ( int i = 0; i < m_level.length; i++ )
+                if ( ( m_blocks >>> i & 1 ) == 1 )
+                    l_sum += m_level[i];
+            return l_sum;
+        }
+
+        /**
+         * merges a block sum into the levels
+         *
+         * @param p_value block sum
+         */
+        private void push( final double p_value )
+        {
+            double l_value = p_value;
+            int l_level = 0;
+            for ( long i = m_blocks; ( i & 1 ) == 1; i >>>= 1 )
+                l_value += m_level[l_level++];
+
+            m_level[l_level] = l_value;
+            m_blocks++;
+        }
+    }
+
+}
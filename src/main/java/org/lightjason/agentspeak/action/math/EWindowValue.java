@@ -0,0 +1,103 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnull;
+import java.util.Locale;
+
+
+/**
+ * values of a sliding window.
+ * The value is selected by name on the action
+ * "windowvalue", all values are undefined (NaN)
+ * if the window contains no value or a NaN value
+ *
+ * {@code [A|M] = .math/windowvalue( W, "mean", "max" );}
+ */
+public enum EWindowValue
+{
+    /**
+     * number of values
+     */
+    COUNT,
+    /**
+     * sum
+     */
+    SUM,
+    /**
+     * minimum
+     */
+    MIN,
+    /**
+     * maximum
+     */
+    MAX,
+    /**
+     * arithmetic mean
+     */
+    MEAN;
+
+
+    /**
+     * returns the value by name
+     *
+     * @param p_name name
+     * @return value
+     */
+    @Nonnull
+    public static EWindowValue from( @Nonnull final String p_name )
+    {
+        return EWindowValue.valueOf( p_name.trim().toUpperCase( Locale.ROOT ) );
+    }
+
+    /**
+     * reads the value of a window
+     *
+     * @param p_window window
+     * @return value
+     */
+    public double apply( @Nonnull final CWindow p_window )
+    {
+        switch ( this )
+        {
+            case COUNT:
+                return p_window.count();
+
+            case SUM:
+                return p_window.sum();
+
+            case MIN:
+                return p_window.min();
+
+            case MAX:
+                return p_window.max();
+
+            case MEAN:
+                return p_window.mean();
+
+            default:
+                throw new IllegalStateException( this.name() );
+        }
+    }
+
+}
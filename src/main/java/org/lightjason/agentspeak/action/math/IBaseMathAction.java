@@ -0,0 +1,150 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+
+/**
+ * base class for all math actions.
+ * The call is passed to the implementation, if
+ * "action.math.metrics" is enabled the calls are
+ * counted and timed and published as MXBean, if
+ * "action.math.events" is enabled and a flight
+ * recording is running, slow calls are recorded
+ * as flight recorder events, otherwise the call
+ * has no additional cost
+ */
+public abstract class IBaseMathAction extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 4404521867632359101L;
+    /**
+     * metrics
+     */
+    private transient volatile CMetrics m_metrics;
+
+    @Nonnull
+    @Override
+    public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                 @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final boolean l_events = CExecutionEvent.enabled();
+        if ( !CMetrics.ENABLED && !l_events )
+            return this.run( p_parallel, p_context, p_argument, p_return );
+
+        final CExecutionEvent l_event = l_events ? new CExecutionEvent() : null;
+        final boolean l_recording = l_event != null && l_event.isEnabled();
+        final long l_hits = l_recording ? CMemoization.threadhits() : 0;
+        final long l_start = CMetrics.ENABLED ? System.nanoTime() : 0;
+        if ( l_recording )
+        {
+            EExecutionPath.reset();
+            l_event.begin();
+        }
+
+        boolean l_error = true;
+        try
+        {
+            final Stream<IFuzzyValue<?>> l_result = this.run( p_parallel, p_context, p_argument, p_return );
+            l_error = false;
+            return l_result;
+        }
+        finally
+        {
+            final int l_size = CMetrics.ENABLED ? CMathCommon.size( p_argument ) : -1;
+            if ( CMetrics.ENABLED )
+                this.metrics().record( l_size, System.nanoTime() - l_start, l_error );
+
+            if ( l_recording )
+                this.commit( l_event, p_argument, l_size, CMemoization.threadhits() > l_hits, l_error );
+        }
+    }
+
+    /**
+     * executes the action
+     *
+     * @param p_parallel parallel execution flag
+     * @param p_context execution context
+     * @param p_argument arguments
+     * @param p_return return values
+     * @return fuzzy result
+     */
+    @Nonnull
+    protected abstract Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                   @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    );
+
+    /**
+     * commits the flight recorder event if the call
+     * is slower than the threshold of the recording
+     *
+     * @param p_event event
+     * @param p_argument arguments
+     * @param p_size number of input elements or a negative value if it is not computed
+     * @param p_cached flag that values are read from a cache
+     * @param p_error error flag
+     */
+    private void commit( @Nonnull final CExecutionEvent p_event, @Nonnull final List<ITerm> p_argument, final int p_size,
+                         final boolean p_cached, final boolean p_error )
+    {
+        p_event.end();
+        if ( !p_event.shouldCommit() )
+            return;
+
+        p_event.m_action = this.name().path();
+        p_event.m_size = p_size < 0 ? CMathCommon.size( p_argument ) : p_size;
+        p_event.m_path = EExecutionPath.current( p_cached ).name().toLowerCase( Locale.ROOT );
+        p_event.m_error = p_error;
+        p_event.commit();
+    }
+
+    /**
+     * returns the metrics of the action
+     *
+     * @return metrics
+     */
+    @Nonnull
+    private CMetrics metrics()
+    {
+        CMetrics l_metrics = m_metrics;
+        if ( l_metrics == null )
+        {
+            l_metrics = CMetrics.of( this.name().path() );
+            m_metrics = l_metrics;
+        }
+        return l_metrics;
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Stream;
+
+
+/**
+ * base class for all unary math actions.
+ * A single scalar argument is calculated directly,
+ * otherwise the arguments are flatten once into a primitive array,
+ * the primitive kernel is applied on each element and the
+ * results are appended to the return list, on parallel
+ * calls large inputs are processed by the fork-join pool and
+ * kernels with a vector operation can run on the vector backend,
+ * in packed mode all results are returned as one packed list term
+ */
+public abstract class IBaseUnaryAction extends IBaseMathAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6170931802938416578L;
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    protected final Stream<IFuzzyValue<?>> run( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final DoubleUnaryOperator l_kernel = this.kernel( p_argument );
+        final List<ITerm> l_arguments = this.arguments( p_argument );
+
+        final Number l_scalar = CMathCommon.scalar( l_arguments );
+        if ( l_scalar != null )
+        {
+            p_return.add( this.term( l_kernel.applyAsDouble( l_scalar.doubleValue() ) ) );
+            return Stream.empty();
+        }
+
+        final double[] l_values = CMathCommon.flatten( l_arguments );
+
+        if ( !CMathCommon.vector( p_parallel, this.vectoroperation(), this.vectorparameter( p_argument ), l_values ) )
+            if ( CMathCommon.parallel( p_parallel, l_values.length ) )
+                Arrays.parallelSetAll( l_values, i -> l_kernel.applyAsDouble( l_values[i] ) );
+            else
+                for ( int i = 0; i < l_values.length; i++ )
+                    l_values[i] = l_kernel.applyAsDouble( l_values[i] );
+
+        this.append( l_values, p_return );
+        return Stream.empty();
+    }
+
+    /**
+     * returns the arguments which are used as input values
+     *
+     * @param p_argument all arguments
+     * @return input arguments
+     */
+    @Nonnull
+    protected List<ITerm> arguments( @Nonnull final List<ITerm> p_argument )
+    {
+        return p_argument;
+    }
+
+    /**
+     * returns the primitive kernel
+     *
+     * @param p_argument all arguments
+     * @return kernel function
+     */
+    @Nonnull
+    protected abstract DoubleUnaryOperator kernel( @Nonnull final List<ITerm> p_argument );
+
+    /**
+     * returns the vector operation of the kernel
+     *
+     * @return operation or null if the kernel cannot be vectorized
+     */
+    @Nullable
+    protected EVectorOperation vectoroperation()
+    {
+        return null;
+    }
+
+    /**
+     * returns the parameter of the vector operation
+     *
+     * @param p_argument all arguments
+     * @return parameter
+     */
+    protected double vectorparameter( @Nonnull final List<ITerm> p_argument )
+    {
+        return 0;
+    }
+
+    /**
+     * creates the result term, integral
+     * values are read from the term cache
+     *
+     * @param p_value result value
+     * @return term
+     */
+    @Nonnull
+    protected ITerm term( final double p_value )
+    {
+        return CTermCache.of( p_value );
+    }
+
+    /**
+     * returns if the results are returned as a single packed
+     * list term, which is set by the configuration "action.math.packed"
+     *
+     * @return packed flag
+     */
+    protected boolean packed()
+    {
+        return CMathCommon.PACKED;
+    }
+
+    /**
+     * appends the results to the return list,
+     * packed results are stored in one list term
+     *
+     * @param p_values result values
+     * @param p_return return list
+     */
+    private void append( @Nonnull final double[] p_values, @Nonnull final List<ITerm> p_return )
+    {
+        if ( this.packed() )
+        {
+            p_return.add( CRawTerm.of( new CDoubleList( p_values ) ) );
+            return;
+        }
+
+        CMathCommon.reserve( p_return, p_values.length );
+        for ( final double i : p_values )
+            p_return.add( this.term( i ) );
+    }
+
+}
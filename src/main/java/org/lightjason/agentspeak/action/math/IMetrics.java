@@ -0,0 +1,118 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.management.MXBean;
+
+
+/**
+ * execution metrics of a math action.
+ * The metrics are published as MXBean with the object name
+ * "org.lightjason.agentspeak.action.math:type=action,name=<action>",
+ * all times are in nanoseconds, the latency percentiles are the
+ * upper bounds of histogram buckets with a relative width of 1/16
+ */
+@MXBean
+public interface IMetrics
+{
+
+    /**
+     * returns the action name
+     *
+     * @return name
+     */
+    @Nonnull
+    String getName();
+
+    /**
+     * returns the number of calls
+     *
+     * @return number of calls
+     */
+    @Nonnegative
+    long getInvocations();
+
+    /**
+     * returns the number of calls which have thrown an exception
+     *
+     * @return number of failed calls
+     */
+    @Nonnegative
+    long getErrors();
+
+    /**
+     * returns the number of input elements of all calls
+     *
+     * @return number of elements
+     */
+    @Nonnegative
+    long getElements();
+
+    /**
+     * returns the execution time of all calls
+     *
+     * @return time
+     */
+    @Nonnegative
+    long getTotalTime();
+
+    /**
+     * returns the maximal execution time
+     *
+     * @return time
+     */
+    @Nonnegative
+    long getMaximumTime();
+
+    /**
+     * returns the median of the execution time
+     *
+     * @return time
+     */
+    @Nonnegative
+    long getP50();
+
+    /**
+     * returns the 99th percentile of the execution time
+     *
+     * @return time
+     */
+    @Nonnegative
+    long getP99();
+
+    /**
+     * returns the 99.9th percentile of the execution time
+     *
+     * @return time
+     */
+    @Nonnegative
+    long getP999();
+
+    /**
+     * resets all metrics
+     */
+    void reset();
+
+}
@@ -0,0 +1,76 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * backend for vectorized array operations
+ */
+public interface IVectorBackend
+{
+    /**
+     * empty backend, which does not support any
+     * operation and leaves the values unchanged
+     */
+    IVectorBackend EMPTY = new IVectorBackend()
+    {
+        @Override
+        public boolean supports( @Nonnull final EVectorOperation p_operation )
+        {
+            return false;
+        }
+
+        @Override
+        public void apply( @Nonnull final EVectorOperation p_operation, final double p_parameter, @Nonnull final double[] p_values,
+                           @Nonnegative final int p_from, @Nonnegative final int p_to
+        )
+        {
+        }
+    };
+
+
+    /**
+     * checks if an operation is supported
+     *
+     * @param p_operation operation
+     * @return support flag
+     */
+    boolean supports( @Nonnull final EVectorOperation p_operation );
+
+    /**
+     * applies the operation in-place on an array range
+     *
+     * @param p_operation operation
+     * @param p_parameter operation parameter, e.g. the exponent
+     * @param p_values values
+     * @param p_from inclusive start index
+     * @param p_to exclusive end index
+     */
+    void apply( @Nonnull final EVectorOperation p_operation, final double p_parameter, @Nonnull final double[] p_values,
+                @Nonnegative final int p_from, @Nonnegative final int p_to );
+
+}
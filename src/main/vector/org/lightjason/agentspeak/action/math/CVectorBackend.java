@@ -0,0 +1,168 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * vector backend based on the incubator vector api.
+ * The class is compiled with the "vector" profile (Java 16+) and
+ * must be run with {@code --add-modules jdk.incubator.vector}, all
+ * operations except pow returns the same values as java.lang.Math,
+ * pow is calculated by the vector intrinsic with an error of 1 ulp
+ */
+final class CVectorBackend implements IVectorBackend
+{
+    /**
+     * vector species
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /**
+     * smallest value without fraction digits
+     */
+    private static final double INTEGRAL = 0x1p52;
+    /**
+     * radians to degrees factor
+     */
+    private static final double DEGREES = Math.toDegrees( 1 );
+    /**
+     * degrees to radians factor
+     */
+    private static final double RADIANS = Math.toRadians( 1 );
+
+
+    @Override
+    public boolean supports( @Nonnull final EVectorOperation p_operation )
+    {
+        return true;
+    }
+
+    @Override
+    public void apply( @Nonnull final EVectorOperation p_operation, final double p_parameter, @Nonnull final double[] p_values,
+                       @Nonnegative final int p_from, @Nonnegative final int p_to
+    )
+    {
+        final int l_bound = p_from + SPECIES.loopBound( p_to - p_from );
+
+        int l_index = p_from;
+        for ( ; l_index < l_bound; l_index += SPECIES.length() )
+            apply( p_operation, p_parameter, DoubleVector.fromArray( SPECIES, p_values, l_index ) ).intoArray( p_values, l_index );
+
+        if ( l_index < p_to )
+        {
+            final VectorMask<Double> l_mask = SPECIES.indexInRange( l_index, p_to );
+            apply( p_operation, p_parameter, DoubleVector.fromArray( SPECIES, p_values, l_index, l_mask ) ).intoArray( p_values, l_index, l_mask );
+        }
+    }
+
+
+    /**
+     * applies the operation on a vector
+     *
+     * @param p_operation operation
+     * @param p_parameter parameter
+     * @param p_vector vector
+     * @return result vector
+     */
+    @Nonnull
+    private static DoubleVector apply( @Nonnull final EVectorOperation p_operation, final double p_parameter, @Nonnull final DoubleVector p_vector )
+    {
+        switch ( p_operation )
+        {
+            case ABS:
+                return p_vector.abs();
+
+            case SQRT:
+                return p_vector.sqrt();
+
+            case DEGREES:
+                return p_vector.mul( DEGREES );
+
+            case RADIANS:
+                return p_vector.mul( RADIANS );
+
+            case POW:
+                return p_vector.pow( p_parameter );
+
+            case SIGNUM:
+                return p_vector.blend( 1.0, p_vector.compare( VectorOperators.GT, 0.0 ) )
+                               .blend( -1.0, p_vector.compare( VectorOperators.LT, 0.0 ) );
+
+            case FLOOR:
+                return integral(
+                    p_vector,
+                    truncate( p_vector ).sub( 1.0, truncate( p_vector ).compare( VectorOperators.GT, p_vector ) )
+                );
+
+            case CEIL:
+                return integral(
+                    p_vector,
+                    truncate( p_vector ).add( 1.0, truncate( p_vector ).compare( VectorOperators.LT, p_vector ) )
+                );
+
+            default:
+                throw new IllegalArgumentException( p_operation.name() );
+        }
+    }
+
+    /**
+     * truncates the fraction digits, only valid
+     * for values with a magnitude less than 2^52
+     *
+     * @param p_vector vector
+     * @return truncated vector
+     */
+    @Nonnull
+    private static DoubleVector truncate( @Nonnull final DoubleVector p_vector )
+    {
+        return (DoubleVector) p_vector.convert( VectorOperators.D2L, 0 ).convert( VectorOperators.L2D, 0 );
+    }
+
+    /**
+     * corrects a rounded vector, values which are already integral (large
+     * values, infinity and NaN) are passed through and zero results get the
+     * sign of the input like java.lang.Math.floor / ceil
+     *
+     * @param p_vector input vector
+     * @param p_rounded rounded vector
+     * @return result vector
+     */
+    @Nonnull
+    private static DoubleVector integral( @Nonnull final DoubleVector p_vector, @Nonnull final DoubleVector p_rounded )
+    {
+        return p_rounded.blend( p_vector.mul( 0.0 ), p_rounded.compare( VectorOperators.EQ, 0.0 ) )
+                        .blend(
+                            p_vector,
+                            p_vector.abs().compare( VectorOperators.GE, INTEGRAL ).or( p_vector.test( VectorOperators.IS_NAN ) )
+                        );
+    }
+
+}
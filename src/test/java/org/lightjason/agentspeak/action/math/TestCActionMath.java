@@ -24,26 +24,55 @@
 package org.lightjason.agentspeak.action.math;
 
 import com.codepoetics.protonpack.StreamUtils;
+import org.apache.commons.math3.exception.MathArithmeticException;
 import org.apache.commons.math3.primes.Primes;
+import org.apache.commons.math3.special.Gamma;
+import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.math3.util.CombinatoricsUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.error.context.CExecutionException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 
@@ -146,8 +175,11 @@ public final class TestCActionMath extends IBaseTest
                 CMax.class
             ),
 
-            i -> i.mapToDouble( Number::doubleValue ).average().getAsDouble(),
-            i -> i.mapToDouble( Number::doubleValue ).sum(),
+            i -> {
+                final List<Number> l_values = i.collect( Collectors.toList() );
+                return exactsum( l_values.stream() ) / l_values.size();
+            },
+            TestCActionMath::exactsum,
             i -> i.mapToDouble( Number::doubleValue ).min().getAsDouble(),
             i -> i.mapToDouble( Number::doubleValue ).max().getAsDouble()
 
@@ -155,6 +187,18 @@ public final class TestCActionMath extends IBaseTest
     }
 
 
+    /**
+     * exact sum rounded to double
+     *
+     * @param p_values values
+     * @return sum
+     */
+    private static double exactsum( final Stream<Number> p_values )
+    {
+        return p_values.map( i -> new BigDecimal( i.doubleValue() ) ).reduce( BigDecimal.ZERO, BigDecimal::add ).doubleValue();
+    }
+
+
     /**
      * create test case
      *
@@ -264,6 +308,376 @@ public final class TestCActionMath extends IBaseTest
     }
 
 
+    /**
+     * test unary action with nested arguments
+     */
+    @Test
+    public void unarynested()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CSqrt().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 4, List.of( 9, List.of( CRawTerm.of( 16 ) ) ), 25 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of( 2.0, 3.0, 4.0, 5.0 ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+
+    /**
+     * test parallel execution above the threshold
+     */
+    @Test
+    public void parallel()
+    {
+        final Random l_random = new Random();
+        final List<Double> l_input = IntStream.range( 0, 2 * CMathCommon.PARALLELTHRESHOLD )
+                                              .mapToDouble( i -> Math.abs( l_random.nextGaussian() ) )
+                                              .boxed()
+                                              .collect( Collectors.toList() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CSqrt().execute( true, IContext.EMPTYPLAN, List.of( CRawTerm.of( l_input ) ), l_return );
+
+        Assertions.assertArrayEquals(
+            l_input.stream().map( Math::sqrt ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        l_return.clear();
+        new CSum().execute( true, IContext.EMPTYPLAN, List.of( CRawTerm.of( l_input ) ), l_return );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertEquals( l_input.stream().mapToDouble( i -> i ).sum(), l_return.get( 0 ).<Number>raw().doubleValue(), 1e-6 );
+    }
+
+
+    /**
+     * test vector backend against the scalar kernels
+     */
+    @Test
+    public void vectorbackend()
+    {
+        final String l_class = CMathCommon.class.getPackageName() + ".CVectorBackend";
+        Assertions.assertSame( IVectorBackend.EMPTY, CMathCommon.vectorbackend( "scalar", l_class ) );
+        Assertions.assertSame( IVectorBackend.EMPTY, CMathCommon.vectorbackend( "vector", CMathCommon.class.getPackageName() + ".CMissingBackend" ) );
+        Assertions.assertFalse( CMathCommon.vector( IVectorBackend.EMPTY, false, EVectorOperation.ABS, 0, new double[1] ) );
+
+        final double[] l_empty = { -1, 2.5 };
+        IVectorBackend.EMPTY.apply( EVectorOperation.ABS, 0, l_empty, 0, l_empty.length );
+        Assertions.assertArrayEquals( new double[]{ -1, 2.5 }, l_empty );
+
+        final IVectorBackend l_backend = CMathCommon.vectorbackend( "vector", l_class );
+        final Random l_random = new Random( 61 );
+        final double[] l_input = DoubleStream.concat(
+            DoubleStream.of(
+                0.0, -0.0, 0.5, -0.5, 1, -1, 2.5, -2.5, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.MIN_VALUE, -Double.MIN_VALUE, 0x1p52 + 1, -0x1p52 - 1, 0x1p62, -0x1p63, Double.MAX_VALUE, -Double.MAX_VALUE
+            ),
+            l_random.doubles( 2 * CMathCommon.PARALLELTHRESHOLD ).map( i -> ( i - 0.5 ) * 1e4 )
+        ).toArray();
+        final List<ITerm> l_exponent = List.of( CRawTerm.of( 2.5 ) );
+        final List<IBaseUnaryAction> l_actions = List.of(
+            new CAbs(), new CCeil(), new CDegrees(), new CFloor(), new CPow(), new CRadians(), new CSignum(), new CSqrt()
+        );
+
+        Assertions.assertEquals(
+            EnumSet.allOf( EVectorOperation.class ),
+            l_actions.stream().map( IBaseUnaryAction::vectoroperation ).collect( Collectors.toCollection( () -> EnumSet.noneOf( EVectorOperation.class ) ) )
+        );
+
+        l_actions.forEach( i -> {
+            final double[] l_expected = Arrays.stream( l_input ).map( i.kernel( l_exponent ) ).toArray();
+
+            Stream.of( false, true ).forEach( j -> {
+                final double[] l_values = l_input.clone();
+                Assertions.assertEquals(
+                    l_backend != IVectorBackend.EMPTY,
+                    CMathCommon.vector( l_backend, j, i.vectoroperation(), i.vectorparameter( l_exponent ), l_values )
+                );
+
+                if ( l_backend == IVectorBackend.EMPTY )
+                    Assertions.assertArrayEquals( l_input, l_values );
+                else if ( i.vectoroperation() == EVectorOperation.POW )
+                    IntStream.range( 0, l_values.length ).forEach( n -> Assertions.assertEquals(
+                        l_expected[n], l_values[n], Math.ulp( l_expected[n] ), String.valueOf( l_input[n] )
+                    ) );
+                else
+                    Assertions.assertArrayEquals( l_expected, l_values, i.vectoroperation().name() );
+            } );
+        } );
+    }
+
+
+    /**
+     * test prime sieve against trial division
+     */
+    @Test
+    public void primesieve()
+    {
+        IntStream.range( -10, 100000 ).forEach( i -> Assertions.assertEquals( Primes.isPrime( i ), CPrimeSieve.isprime( i ), String.valueOf( i ) ) );
+        IntStream.range( 0, 100000 ).forEach( i -> Assertions.assertEquals( Primes.nextPrime( i ), CPrimeSieve.nextprime( i ), String.valueOf( i ) ) );
+
+        Assertions.assertTrue( BigInteger.valueOf( CPrimeSieve.LARGESTPRIME ).isProbablePrime( 64 ) );
+        Assertions.assertEquals( CPrimeSieve.LARGESTPRIME, CPrimeSieve.nextprime( CPrimeSieve.LARGESTPRIME - 20 ) );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CNextPrime().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( CPrimeSieve.LARGESTPRIME + 1 ) ), new ArrayList<>() )
+        );
+    }
+
+    /**
+     * test Miller-Rabin on long values
+     */
+    @Test
+    public void millerrabin()
+    {
+        LongStream.concat(
+            LongStream.of( 3215031751L, 2152302898747L, 3474749660383L, 341550071728321L, 3825123056546413051L, 4611686014132420609L, Long.MAX_VALUE - 24, Long.MAX_VALUE ),
+            new Random( 17 ).longs( 50000, 1L << 31, Long.MAX_VALUE )
+        ).forEach( i -> Assertions.assertEquals( BigInteger.valueOf( i ).isProbablePrime( 64 ), CMillerRabin.isprime( i ), String.valueOf( i ) ) );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CIsPrime().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 4294967291L, 4294967297L ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( true, l_return.get( 0 ).<Boolean>raw() );
+        Assertions.assertEquals( false, l_return.get( 1 ).<Boolean>raw() );
+    }
+
+
+    /**
+     * test statistics against the commons descriptive statistics
+     */
+    @Test
+    public void statistics()
+    {
+        final Random l_random = new Random( 41 );
+        final double[] l_values = IntStream.range( 0, 3 * CMathCommon.PARALLELTHRESHOLD ).mapToDouble( i -> 1000 + l_random.nextGaussian() * Math.exp( l_random.nextDouble() ) ).toArray();
+        final DescriptiveStatistics l_statistics = new DescriptiveStatistics( l_values );
+        final double[] l_expected = {
+            l_statistics.getN(), l_statistics.getSum(), l_statistics.getMin(), l_statistics.getMax(), l_statistics.getMean(),
+            l_statistics.getVariance(), l_statistics.getStandardDeviation(), l_statistics.getSkewness(), l_statistics.getKurtosis()
+        };
+
+        Stream.of( false, true ).forEach( i ->
+        {
+            final List<ITerm> l_return = new ArrayList<>();
+            new CStatistics().execute(
+                i, IContext.EMPTYPLAN,
+                Arrays.stream( l_values ).boxed().map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+
+            Assertions.assertEquals( l_expected.length, l_return.size() );
+            IntStream.range( 0, l_expected.length ).forEach( j -> Assertions.assertEquals(
+                l_expected[j], l_return.get( j ).<Number>raw().doubleValue(), 1e-9 * Math.max( 1, Math.abs( l_expected[j] ) ), String.valueOf( j )
+            ) );
+        } );
+    }
+
+
+    /**
+     * test running statistic actions
+     *
+     * @throws IOException is thrown on serialization error
+     * @throws ClassNotFoundException is thrown on deserialization error
+     */
+    @Test
+    public void runningstatistic() throws IOException, ClassNotFoundException
+    {
+        final Random l_random = new Random( 43 );
+        final double[] l_values = IntStream.range( 0, 2 * CMathCommon.PARALLELTHRESHOLD ).mapToDouble( i -> 10 + l_random.nextGaussian() ).toArray();
+        final DescriptiveStatistics l_statistics = new DescriptiveStatistics( l_values );
+        final List<ITerm> l_terms = Arrays.stream( l_values ).boxed().map( CRawTerm::of ).collect( Collectors.toList() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CCreateStatistic().execute( false, IContext.EMPTYPLAN, l_terms.subList( 0, 10 ), l_return );
+        new CCreateStatistic().execute( false, IContext.EMPTYPLAN, List.of(), l_return );
+
+        final List<ITerm> l_add = new ArrayList<>();
+        l_add.add( l_return.get( 1 ) );
+        l_add.add( CRawTerm.of( l_terms.subList( 10, l_terms.size() ) ) );
+        new CAddStatistic().execute( true, IContext.EMPTYPLAN, l_add, l_return );
+        Assertions.assertEquals( 2, l_return.size() );
+
+        final ByteArrayOutputStream l_stream = new ByteArrayOutputStream();
+        try ( ObjectOutputStream l_output = new ObjectOutputStream( l_stream ) )
+        {
+            l_output.writeObject( l_return.get( 1 ).raw() );
+        }
+        try ( ObjectInputStream l_input = new ObjectInputStream( new ByteArrayInputStream( l_stream.toByteArray() ) ) )
+        {
+            l_return.set( 1, CRawTerm.of( l_input.readObject() ) );
+        }
+
+        new CMergeStatistic().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 0 ), CRawTerm.of( List.of( l_return.get( 1 ) ) ) ), l_return );
+        Assertions.assertEquals( 10, l_return.get( 0 ).<CMoments>raw().count() );
+
+        final List<ITerm> l_result = new ArrayList<>();
+        new CStatisticValue().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 2 ) ), l_result );
+        new CStatisticValue().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 2 ), CRawTerm.of( "Mean" ), CRawTerm.of( "count" ) ), l_result );
+
+        final double[] l_expected = {
+            l_statistics.getN(), l_statistics.getSum(), l_statistics.getMin(), l_statistics.getMax(), l_statistics.getMean(),
+            l_statistics.getVariance(), l_statistics.getStandardDeviation(), l_statistics.getSkewness(), l_statistics.getKurtosis(),
+            l_statistics.getMean(), l_statistics.getN()
+        };
+        Assertions.assertEquals( l_expected.length, l_result.size() );
+        IntStream.range( 0, l_expected.length ).forEach( i -> Assertions.assertEquals(
+            l_expected[i], l_result.get( i ).<Number>raw().doubleValue(), 1e-9 * Math.max( 1, Math.abs( l_expected[i] ) ), String.valueOf( i )
+        ) );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CStatisticValue().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 2 ), CRawTerm.of( "median" ) ), new ArrayList<>() )
+        );
+    }
+
+
+    /**
+     * test sliding window against the values of the window
+     */
+    @Test
+    public void window()
+    {
+        final Random l_random = new Random( 47 );
+        final double[] l_values = IntStream.range( 0, 20000 )
+                                           .mapToDouble( i -> {
+                                               switch ( l_random.nextInt( 500 ) )
+                                               {
+                                                   case 0:
+                                                       return Double.NaN;
+                                                   case 1:
+                                                       return Double.POSITIVE_INFINITY;
+                                                   case 2:
+                                                       return Double.NEGATIVE_INFINITY;
+                                                   default:
+                                                       return 1e6 + l_random.nextInt( 20 ) * l_random.nextGaussian();
+                                               }
+                                           } )
+                                           .toArray();
+
+        IntStream.of( 1, 2, 7, 100 ).forEach( n -> {
+            final CWindow l_window = new CWindow( n );
+            for ( int i = 0; i < l_values.length; i++ )
+            {
+                l_window.accept( l_values[i] );
+
+                final double[] l_expected = Arrays.copyOfRange( l_values, Math.max( 0, i + 1 - n ), i + 1 );
+                final boolean l_nan = Arrays.stream( l_expected ).anyMatch( Double::isNaN );
+                Assertions.assertArrayEquals( l_expected, l_window.toDoubleArray() );
+                Assertions.assertEquals( l_expected.length, l_window.count() );
+                Assertions.assertEquals( l_nan ? Double.NaN : Arrays.stream( l_expected ).min().orElseThrow(), l_window.min() );
+                Assertions.assertEquals( l_nan ? Double.NaN : Arrays.stream( l_expected ).max().orElseThrow(), l_window.max() );
+                Assertions.assertEquals( l_nan ? Double.NaN : ESummation.KAHAN.sum( l_expected, 0, l_expected.length ), l_window.sum(), 1e-9 * n );
+            }
+        } );
+
+        final CWindow l_infinite = new CWindow( 3 );
+        final double[] l_sum = DoubleStream.of( 0, Double.POSITIVE_INFINITY, 1, Double.NEGATIVE_INFINITY, 2, 3, 4 ).map( i -> {
+            l_infinite.accept( i );
+            return l_infinite.sum();
+        } ).toArray();
+        Assertions.assertArrayEquals(
+            new double[]{ 0, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NaN, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, 9 },
+            l_sum
+        );
+        Assertions.assertEquals( 3, l_infinite.mean() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CCreateWindow().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( 3 ), CRawTerm.of( 1 ) ), l_return );
+        new CPushWindow().execute(
+            false, IContext.EMPTYPLAN,
+            List.of( l_return.get( 0 ), CRawTerm.of( 5 ), CRawTerm.of( Stream.of( 9, 2, 4, 8 ).map( CRawTerm::of ).collect( Collectors.toList() ) ) ),
+            l_return
+        );
+        new CWindowValue().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 0 ) ), l_return );
+        new CWindowValue().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 0 ), CRawTerm.of( "max" ) ), l_return );
+
+        Assertions.assertArrayEquals( new double[]{ 2, 4, 8 }, l_return.get( 0 ).<CWindow>raw().toDoubleArray() );
+        Assertions.assertArrayEquals(
+            new double[]{ 3, 14, 2, 8, 14 / 3.0, 8 },
+            l_return.stream().skip( 1 ).mapToDouble( i -> i.<Number>raw().doubleValue() ).toArray()
+        );
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CWindow( 0 ) );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CCreateWindow().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( 0 ) ), new ArrayList<>() )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CWindowValue().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 0 ), CRawTerm.of( "median" ) ), new ArrayList<>() )
+        );
+    }
+
+
+    /**
+     * test quantile sketch against exact ranks
+     */
+    @Test
+    public void quantilesketch()
+    {
+        final Random l_random = new Random( 53 );
+        final double[] l_values = IntStream.range( 0, 4 * CMathCommon.PARALLELTHRESHOLD ).mapToDouble( i -> l_random.nextGaussian() ).toArray();
+        final double[] l_sorted = l_values.clone();
+        Arrays.sort( l_sorted );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        final List<ITerm> l_terms = Arrays.stream( l_values ).boxed().map( CRawTerm::of ).collect( Collectors.toList() );
+        new CCreateSketch().execute( false, IContext.EMPTYPLAN, l_terms, l_return );
+        new CCreateSketch().execute( true, IContext.EMPTYPLAN, l_terms.subList( 0, l_terms.size() / 2 ), l_return );
+        new CCreateSketch().execute( false, IContext.EMPTYPLAN, List.of(), l_return );
+        new CAddSketch().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 2 ), CRawTerm.of( l_terms.subList( l_terms.size() / 2, l_terms.size() ) ) ), l_return );
+        new CMergeSketch().execute( false, IContext.EMPTYPLAN, List.of( l_return.get( 1 ), CRawTerm.of( List.of( l_return.get( 2 ) ) ) ), l_return );
+        Assertions.assertEquals( 4, l_return.size() );
+
+        final List<ITerm> l_quantiles = DoubleStream.iterate( 0, i -> i <= 1, i -> i + 1 / 64.0 ).boxed().map( CRawTerm::of ).collect( Collectors.toList() );
+        Stream.of( l_return.get( 0 ), l_return.get( 3 ) ).forEach( i -> {
+            final CQuantileSketch l_sketch = i.raw();
+            Assertions.assertEquals( l_values.length, l_sketch.count() );
+            Assertions.assertTrue( l_sketch.retained() < 4 * CQuantileSketch.SIZE );
+
+            final List<ITerm> l_result = new ArrayList<>();
+            new CQuantile().execute( false, IContext.EMPTYPLAN, Stream.concat( Stream.of( i ), l_quantiles.stream() ).collect( Collectors.toList() ), l_result );
+            new CCdf().execute( false, IContext.EMPTYPLAN, Stream.concat( Stream.of( i ), l_result.stream() ).collect( Collectors.toList() ), l_result );
+
+            Assertions.assertEquals( l_sorted[0], l_result.get( 0 ).<Double>raw() );
+            Assertions.assertEquals( l_sorted[l_sorted.length - 1], l_result.get( l_quantiles.size() - 1 ).<Double>raw() );
+            IntStream.range( 0, l_quantiles.size() ).forEach( j -> {
+                final double l_rank = (double) IntStream.range( 0, l_sorted.length ).filter( n -> l_sorted[n] <= l_result.get( j ).<Double>raw() ).count() / l_sorted.length;
+                Assertions.assertEquals( l_quantiles.get( j ).<Double>raw(), l_rank, 0.017 );
+                Assertions.assertEquals( l_rank, l_result.get( l_quantiles.size() + j ).<Number>raw().doubleValue(), 0.017 );
+            } );
+        } );
+
+        final CQuantileSketch l_exact = new CQuantileSketch( CQuantileSketch.SIZE );
+        DoubleStream.of( 5, 1, 4, Double.NaN, 2, 3 ).forEach( l_exact );
+        Assertions.assertEquals( 5, l_exact.count() );
+        Assertions.assertArrayEquals(
+            new double[]{ 1, 1, 2, 3, 3, 5, 0, 0.2, 0.6, 1, Double.NaN },
+            DoubleStream.concat(
+                DoubleStream.of( 0, 0.2, 0.3, 0.5, 0.6, 1 ).map( l_exact::quantile ),
+                DoubleStream.of( 0, 1, 3.5, 7, Double.NaN ).map( l_exact::cdf )
+            ).toArray()
+        );
+        Assertions.assertTrue( Double.isNaN( new CQuantileSketch( 8 ).quantile( 0.5 ) ) );
+        Assertions.assertThrows( IllegalArgumentException.class, () -> l_exact.quantile( 1.5 ) );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CQuantile().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( l_exact ), CRawTerm.of( 1.5 ) ), new ArrayList<>() )
+        );
+    }
+
+
     /**
      * test binomial
      */
@@ -282,6 +696,29 @@ public final class TestCActionMath extends IBaseTest
         Assertions.assertEquals( 6L, l_return.get( 1 ).<Number>raw() );
     }
 
+    /**
+     * test binomial cache
+     */
+    @Test
+    public void binomialcache()
+    {
+        IntStream.range( 0, 200 ).parallel().forEach( n -> IntStream.rangeClosed( 0, n ).forEach( k ->
+        {
+            final BigInteger l_binomial = CCombinatorics.factorialbig( false, n )
+                                                        .divide( CCombinatorics.factorialbig( false, k ) )
+                                                        .divide( CCombinatorics.factorialbig( false, n - k ) );
+
+            Assertions.assertEquals( l_binomial, CPascalTriangle.binomialbig( n, k ) );
+            if ( l_binomial.bitLength() < Long.SIZE )
+                Assertions.assertEquals( l_binomial.longValueExact(), CPascalTriangle.binomial( n, k ) );
+            else
+                Assertions.assertThrows( MathArithmeticException.class, () -> CPascalTriangle.binomial( n, k ) );
+        } ) );
+
+        Assertions.assertEquals( CombinatoricsUtils.binomialCoefficientLog( 100000, 500 ), CPascalTriangle.binomiallog( 100000, 500 ), 1e-8 );
+        Assertions.assertEquals( CombinatoricsUtils.binomialCoefficientDouble( 1000, 20 ), CPascalTriangle.binomialdouble( 1000, 20 ), 1e-12 * CombinatoricsUtils.binomialCoefficientDouble( 1000, 20 ) );
+    }
+
 
     /**
      * test factorial
@@ -304,6 +741,31 @@ public final class TestCActionMath extends IBaseTest
         Assertions.assertEquals( 24L, l_return.get( 4 ).<Number>raw() );
     }
 
+    /**
+     * test factorial modes
+     */
+    @Test
+    public void factorialmode()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Stream.of( "double", "log", "biginteger" ).forEach( i -> new CFactorial().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( i, 20, 25, 171, 5000 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        Assertions.assertEquals( 2432902008176640000.0, l_return.get( 0 ).<Number>raw() );
+        Assertions.assertEquals( 1.5511210043330986E25, l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals( Double.POSITIVE_INFINITY, l_return.get( 2 ).<Number>raw() );
+        Assertions.assertEquals( Gamma.logGamma( 26 ), l_return.get( 5 ).<Number>raw().doubleValue(), 1e-12 );
+        Assertions.assertEquals( Gamma.logGamma( 5001 ), l_return.get( 7 ).<Number>raw().doubleValue(), 1e-9 );
+
+        final BigInteger l_factorial = IntStream.rangeClosed( 2, 5000 ).mapToObj( BigInteger::valueOf ).reduce( BigInteger.ONE, BigInteger::multiply );
+        Assertions.assertEquals( l_factorial, l_return.get( 11 ).<BigInteger>raw() );
+        Assertions.assertEquals( l_factorial, CCombinatorics.factorialbig( true, 5000 ) );
+    }
+
 
     /**
      * test primefactors
@@ -323,6 +785,36 @@ public final class TestCActionMath extends IBaseTest
         Assertions.assertArrayEquals( Stream.of( 2D, 2D, 2D, 3D, 5D ).toArray(), l_return.get( 1 ).<List<?>>raw().toArray() );
     }
 
+    /**
+     * test factorization of int and long values
+     */
+    @Test
+    public void factorization()
+    {
+        IntStream.range( 2, 200000 ).forEach( i -> Assertions.assertEquals(
+            Primes.primeFactors( i ).stream().map( Integer::doubleValue ).collect( Collectors.toList() ),
+            CFactorization.factorize( i ),
+            String.valueOf( i )
+        ) );
+
+        final Random l_random = new Random( 23 );
+        LongStream.concat(
+            LongStream.of( Long.MAX_VALUE, 4611686014132420609L, 3037000493L * 3037000453L, 2147483647L * 2147483629L, 1L << 62 ),
+            l_random.longs( 2000, 2, Long.MAX_VALUE )
+        ).forEach( i ->
+        {
+            final CPrimeFactorList l_factors = CFactorization.factorize( i );
+            BigInteger l_product = BigInteger.ONE;
+            for ( int j = 0; j < l_factors.distinct(); j++ )
+            {
+                Assertions.assertTrue( BigInteger.valueOf( l_factors.prime( j ) ).isProbablePrime( 64 ), String.valueOf( i ) );
+                Assertions.assertTrue( j == 0 || l_factors.prime( j - 1 ) < l_factors.prime( j ) );
+                l_product = l_product.multiply( BigInteger.valueOf( l_factors.prime( j ) ).pow( l_factors.exponent( j ) ) );
+            }
+            Assertions.assertEquals( BigInteger.valueOf( i ), l_product );
+        } );
+    }
+
 
     /**
      * test sigmoid
@@ -343,6 +835,324 @@ public final class TestCActionMath extends IBaseTest
         Assertions.assertEquals( 0.9999999999999065, l_return.get( 3 ).<Number>raw() );
     }
 
+    /**
+     * accuracy harness of the approximated functions against java.lang.Math
+     */
+    @Test
+    public void approximation()
+    {
+        final Random l_random = new Random( 53 );
+        final double[] l_values = DoubleStream.concat(
+            l_random.doubles( 200000, -1, 1 ),
+            DoubleStream.concat( l_random.doubles( 200000, -50, 50 ), l_random.doubles( 100000, -CApproximation.TRIGONOMETRICRANGE, CApproximation.TRIGONOMETRICRANGE ) )
+        ).toArray();
+
+        Arrays.stream( l_values ).forEach( i ->
+        {
+            Assertions.assertEquals( Math.sin( i ), CApproximation.sin( i ), CApproximation.TRIGONOMETRICERROR, () -> "sin " + i );
+            Assertions.assertEquals( Math.cos( i ), CApproximation.cos( i ), CApproximation.TRIGONOMETRICERROR, () -> "cos " + i );
+            Assertions.assertEquals( Math.tan( i ), CApproximation.tan( i ), CApproximation.TRIGONOMETRICERROR * ( 1 + Math.abs( Math.tan( i ) ) ) / Math.abs( Math.cos( i ) ), () -> "tan " + i );
+
+            final double l_exp = Math.min( 700, Math.abs( i ) ) * Math.signum( i );
+            Assertions.assertEquals( Math.exp( l_exp ), CApproximation.exp( l_exp ), CApproximation.EXPERROR * Math.exp( l_exp ), () -> "exp " + i );
+            Assertions.assertEquals( Math.sinh( l_exp ), CApproximation.sinh( l_exp ), CApproximation.HYPERBOLICERROR * Math.abs( Math.sinh( l_exp ) ), () -> "sinh " + i );
+            Assertions.assertEquals( Math.cosh( l_exp ), CApproximation.cosh( l_exp ), CApproximation.HYPERBOLICERROR * Math.cosh( l_exp ), () -> "cosh " + i );
+            Assertions.assertEquals( Math.tanh( l_exp ), CApproximation.tanh( l_exp ), CApproximation.HYPERBOLICERROR * Math.abs( Math.tanh( l_exp ) ), () -> "tanh " + i );
+
+            final double l_log = Math.exp( l_exp );
+            Assertions.assertEquals( Math.log( l_log ), CApproximation.log( l_log ), CApproximation.LOGERROR, () -> "log " + l_log );
+            Assertions.assertEquals( Math.log10( l_log ), CApproximation.log10( l_log ), CApproximation.LOGERROR, () -> "log10 " + l_log );
+        } );
+
+        Stream.<DoubleUnaryOperator>of(
+            CApproximation::sin, CApproximation::cos, CApproximation::tan, CApproximation::exp, CApproximation::log,
+            CApproximation::log10, CApproximation::sinh, CApproximation::cosh, CApproximation::tanh
+        ).forEach( i -> Assertions.assertTrue( Double.isNaN( i.applyAsDouble( Double.NaN ) ) ) );
+
+        Assertions.assertEquals( Double.POSITIVE_INFINITY, CApproximation.exp( 1000 ) );
+        Assertions.assertEquals( Double.NEGATIVE_INFINITY, CApproximation.log( 0 ) );
+        Assertions.assertEquals( Math.sin( 1e10 ), CApproximation.sin( 1e10 ) );
+    }
+
+
+    /**
+     * test scalar fast path against the list path
+     *
+     * @throws NoSuchMethodException is thrown on instantiation error
+     * @throws IllegalAccessException is thrown on instantiation error
+     * @throws InvocationTargetException is thrown on instantiation error
+     * @throws InstantiationException is thrown on instantiation error
+     */
+    @Test
+    public void scalar() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException
+    {
+        for ( final Class<?> i : List.of( CAbs.class, CAverage.class, CMax.class, CMin.class, CRound.class, CSqrt.class, CSum.class ) )
+            for ( final Number j : List.of( -2.5, 7, 0.3f, 12L ) )
+            {
+                final IAction l_action = (IAction) i.getConstructor().newInstance();
+                final List<ITerm> l_scalar = new ArrayList<>();
+                final List<ITerm> l_list = new ArrayList<>();
+
+                l_action.execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( j ) ), l_scalar );
+                l_action.execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( List.of( CRawTerm.of( j ) ) ) ), l_list );
+
+                Assertions.assertEquals( 1, l_scalar.size() );
+                Assertions.assertEquals( l_list.get( 0 ).<Object>raw(), l_scalar.get( 0 ).raw() );
+            }
+    }
+
+
+    /**
+     * test packed lists as input of math actions
+     */
+    @Test
+    public void packed()
+    {
+        final CDoubleList l_packed = new CDoubleList( new double[]{ 4, 9, 2.5, 7 } );
+        final List<ITerm> l_argument = List.of( CRawTerm.of( 1 ), CRawTerm.of( l_packed ), CRawTerm.of( List.of( CRawTerm.of( l_packed ) ) ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CSum().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CMax().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CIsPrime().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( l_packed ) ), l_return );
+        new CSqrt().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+
+        Assertions.assertEquals( 46.0, l_return.get( 0 ).<Number>raw() );
+        Assertions.assertEquals( 9.0, l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals(
+            List.of( false, false, true, true ),
+            l_return.subList( 2, 6 ).stream().map( ITerm::<Boolean>raw ).collect( Collectors.toList() )
+        );
+        Assertions.assertArrayEquals(
+            new double[]{ 1, 2, 3, Math.sqrt( 2.5 ), Math.sqrt( 7 ), 2, 3, Math.sqrt( 2.5 ), Math.sqrt( 7 ) },
+            l_return.subList( 6, l_return.size() ).stream().mapToDouble( i -> i.<Number>raw().doubleValue() ).toArray()
+        );
+
+        Assertions.assertEquals( List.of( 4.0, 9.0, 2.5, 7.0 ), l_packed );
+        Assertions.assertEquals( 22.5, l_packed.doubleStream().sum() );
+        Assertions.assertThrows( UnsupportedOperationException.class, () -> l_packed.set( 0, 1.0 ) );
+        Assertions.assertArrayEquals( CMathCommon.flatten( List.of( l_packed ) ), CMathCommon.flatten( List.copyOf( l_packed ) ) );
+    }
+
+
+    /**
+     * test shared result terms
+     */
+    @Test
+    public void termcache()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final List<ITerm> l_argument = Stream.of( -3.5, -0.0, 0.0, 2.2, 1e6, Double.NaN ).map( CRawTerm::of ).collect( Collectors.toList() );
+        new CSignum().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CSignum().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CRound().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CIsPrime().execute( false, IContext.EMPTYPLAN, Stream.of( 7, 8, 7 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+        Assertions.assertArrayEquals(
+            new Object[]{ -1.0, -0.0, 0.0, 1.0, 1.0, Double.NaN, -1.0, -0.0, 0.0, 1.0, 1.0, Double.NaN, -3L, 0L, 0L, 2L, 1000000L, 0L, true, false, true },
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertSame( l_return.get( 0 ), l_return.get( 6 ) );
+        Assertions.assertSame( l_return.get( 3 ), l_return.get( 4 ) );
+        Assertions.assertSame( l_return.get( 2 ), l_return.get( 8 ) );
+        Assertions.assertNotSame( l_return.get( 1 ), l_return.get( 7 ) );
+        Assertions.assertSame( l_return.get( 13 ), l_return.get( 14 ) );
+        Assertions.assertNotSame( l_return.get( 16 ), CTermCache.of( 1000000L ) );
+        Assertions.assertSame( l_return.get( 18 ), l_return.get( 20 ) );
+        Assertions.assertSame( CTermCache.of( 2L ), l_return.get( 15 ) );
+    }
+
+
+    /**
+     * test segmented LRU memoization
+     */
+    @Test
+    public void memoization()
+    {
+        final CMemoization<Long> l_cache = CMemoization.of( "test", 8 );
+        final long[] l_calls = new long[1];
+        final LongUnaryOperator l_function = i -> {
+            l_calls[0]++;
+            return i * i;
+        };
+
+        LongStream.range( 0, 8 ).forEach( i -> Assertions.assertEquals( i * i, l_cache.get( i, j -> l_function.applyAsLong( j ) ) ) );
+        LongStream.range( 0, 8 ).forEach( i -> Assertions.assertEquals( i * i, l_cache.get( i, j -> l_function.applyAsLong( j ) ) ) );
+        LongStream.range( 8, 16 ).forEach( i -> Assertions.assertEquals( i * i, l_cache.get( i, j -> l_function.applyAsLong( j ) ) ) );
+        LongStream.range( 2, 8 ).forEach( i -> Assertions.assertEquals( i * i, l_cache.get( i, j -> l_function.applyAsLong( j ) ) ) );
+
+        Assertions.assertEquals( 16, l_calls[0] );
+        Assertions.assertEquals( 14, l_cache.hits() );
+        Assertions.assertEquals( 16, l_cache.misses() );
+        Assertions.assertEquals( 8, l_cache.evictions() );
+        Assertions.assertEquals( 8, l_cache.size() );
+        Assertions.assertFalse( CMemoization.caches().contains( l_cache ) );
+        Assertions.assertNotEquals( CMemoization.key( 1, -1 ), CMemoization.key( 0, -1 ) );
+
+        l_cache.clear();
+        Assertions.assertEquals( 0, l_cache.size() );
+        Assertions.assertEquals( 0, l_cache.hits() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        final List<ITerm> l_argument = Stream.of( 1000000007L, 1000000008L, 1000000007L ).map( CRawTerm::of ).collect( Collectors.toList() );
+        new CIsPrime().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CPrimeFactors().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CFactorial().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( "biginteger" ), CRawTerm.of( 30 ), CRawTerm.of( 30 ) ), l_return );
+
+        Assertions.assertTrue( CMemoization.caches().stream().anyMatch( i -> "isprime".equals( i.name() ) ) );
+        Assertions.assertEquals( List.of( true, false, true ), l_return.subList( 0, 3 ).stream().map( ITerm::<Boolean>raw ).collect( Collectors.toList() ) );
+        Assertions.assertEquals( List.of( 1000000007.0 ), l_return.get( 3 ).raw() );
+        Assertions.assertSame( l_return.get( 3 ).<Object>raw(), l_return.get( 5 ).raw() );
+        Assertions.assertEquals( LongStream.rangeClosed( 1, 30 ).mapToObj( BigInteger::valueOf ).reduce( BigInteger.ONE, BigInteger::multiply ), l_return.get( 6 ).raw() );
+        Assertions.assertSame( l_return.get( 6 ).<Object>raw(), l_return.get( 7 ).raw() );
+    }
+
+
+    /**
+     * test execution metrics and MXBean
+     *
+     * @throws JMException is thrown on MXBean error
+     */
+    @Test
+    public void metrics() throws JMException
+    {
+        Assertions.assertTrue(
+            LongStream.concat( LongStream.range( 0, 100000 ), LongStream.iterate( 1, i -> i < Long.MAX_VALUE / 3, i -> i * 3 ) )
+                      .allMatch( i -> CMetrics.bucket( i ) == 0 || CMetrics.upper( CMetrics.bucket( i ) - 1 ) < i && i <= CMetrics.upper( CMetrics.bucket( i ) )
+                                      || i > 1L << 41 && CMetrics.bucket( i ) == CMetrics.bucket( Long.MAX_VALUE ) )
+        );
+
+        final CMetrics l_metrics = CMetrics.of( "math/test" );
+        try
+        {
+            LongStream.rangeClosed( 1, 10000 ).forEach( i -> l_metrics.record( 2, i * 1000, i % 1000 == 0 ) );
+
+            Assertions.assertEquals( 10000, l_metrics.getInvocations() );
+            Assertions.assertEquals( 10, l_metrics.getErrors() );
+            Assertions.assertEquals( 20000, l_metrics.getElements() );
+            Assertions.assertEquals( 10000000, l_metrics.getMaximumTime() );
+            Assertions.assertEquals( 5000000, l_metrics.getP50(), 5000000 / 16.0 );
+            Assertions.assertEquals( 9900000, l_metrics.getP99(), 9900000 / 16.0 );
+            Assertions.assertEquals( 9990000, l_metrics.getP999(), 9990000 / 16.0 );
+            Assertions.assertSame( l_metrics, CMetrics.of( "math/test" ) );
+            Assertions.assertEquals(
+                10000L,
+                ManagementFactory.getPlatformMBeanServer().getAttribute(
+                    new ObjectName( "org.lightjason.agentspeak.action.math:type=action,name=" + ObjectName.quote( "math/test" ) ), "Invocations"
+                )
+            );
+
+            l_metrics.reset();
+            Assertions.assertEquals( 0, l_metrics.getInvocations() );
+            Assertions.assertEquals( 0, l_metrics.getP99() );
+        }
+        finally
+        {
+            CMetrics.remove( "math/test" );
+        }
+
+        Assertions.assertFalse( CMetrics.all().contains( l_metrics ) );
+        Assertions.assertFalse( ManagementFactory.getPlatformMBeanServer().isRegistered(
+            new ObjectName( "org.lightjason.agentspeak.action.math:type=action,name=" + ObjectName.quote( "math/test" ) )
+        ) );
+    }
+
+
+    /**
+     * test flight recorder events
+     *
+     * @throws IOException is thrown on recording error
+     */
+    @Test
+    public void events() throws IOException
+    {
+        final Path l_file = Files.createTempFile( "math", ".jfr" );
+        final boolean l_enabled = CExecutionEvent.enabled();
+        CExecutionEvent.enabled( true );
+        try
+        {
+            try ( Recording l_recording = new Recording() )
+            {
+                l_recording.enable( "org.lightjason.agentspeak.action.math.Execution" ).withThreshold( Duration.ZERO );
+                l_recording.start();
+
+                new CSqrt().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( 4 ) ), new ArrayList<>() );
+                new CSqrt().execute(
+                    true, IContext.EMPTYPLAN, List.of( CRawTerm.of( new CDoubleList( new double[CMathCommon.PARALLELTHRESHOLD] ) ) ), new ArrayList<>()
+                );
+                new CSum().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( 1 ), CRawTerm.of( 2 ) ), new ArrayList<>() );
+                new CSigmoid().execute( false, IContext.EMPTYPLAN, Stream.of( 1, 1, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ), new ArrayList<>() );
+                new CCreateWindow().execute( true, IContext.EMPTYPLAN, List.of( CRawTerm.of( 5 ) ), new ArrayList<>() );
+                new CNextPrime().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( 1L << 40 ) ), new ArrayList<>() );
+                new CNextPrime().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( 1L << 40 ) ), new ArrayList<>() );
+                Assertions.assertThrows(
+                    CExecutionException.class,
+                    () -> new CAverage().execute( false, IContext.EMPTYPLAN, List.of(), new ArrayList<>() )
+                );
+
+                l_recording.stop();
+                l_recording.dump( l_file );
+            }
+
+            Assertions.assertEquals(
+                List.of(
+                    "math/sqrt 1 scalar false",
+                    "math/sqrt " + CMathCommon.PARALLELTHRESHOLD + " parallel false",
+                    "math/sum 2 sequential false",
+                    "math/sigmoid 3 scalar false",
+                    "math/createwindow 1 sequential false",
+                    "math/nextprime 1 scalar false",
+                    "math/nextprime 1 cached false",
+                    "math/average 0 sequential true"
+                ),
+                RecordingFile.readAllEvents( l_file ).stream()
+                             .sorted( Comparator.comparing( RecordedEvent::getStartTime ) )
+                             .map( i -> i.getString( "action" ) + " " + i.getInt( "size" ) + " " + i.getString( "path" ) + " " + i.getBoolean( "error" ) )
+                             .collect( Collectors.toList() )
+            );
+        }
+        finally
+        {
+            CExecutionEvent.enabled( l_enabled );
+            Files.deleteIfExists( l_file );
+        }
+    }
+
+
+    /**
+     * test logistic table and activation functions
+     */
+    @Test
+    public void activation()
+    {
+        Assertions.assertTrue(
+            IntStream.rangeClosed( -3000000, 3000000 )
+                     .mapToDouble( i -> i / 100000.0 + 1e-7 )
+                     .map( i -> Math.abs( 1 / ( 1 + Math.exp( -i ) ) - CLogisticTable.logistic( i ) ) )
+                     .max()
+                     .orElseThrow()
+            < CLogisticTable.MAXIMUMERROR
+        );
+        Assertions.assertTrue( Double.isNaN( CLogisticTable.logistic( Double.NaN ) ) );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        final List<ITerm> l_argument = Stream.of( -800, -1, 0, 2, 800 ).map( CRawTerm::of ).collect( Collectors.toList() );
+        new CRelu().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CSoftplus().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+        new CSigmoidDerivative().execute( false, IContext.EMPTYPLAN, l_argument, l_return );
+
+        Assertions.assertArrayEquals(
+            new double[]{
+                0, 0, 0, 2, 800,
+                0, Math.log1p( Math.exp( -1 ) ), Math.log( 2 ), 2 + Math.log1p( Math.exp( -2 ) ), 800,
+                0, Math.exp( -1 ) / Math.pow( 1 + Math.exp( -1 ), 2 ), 0.25, Math.exp( -2 ) / Math.pow( 1 + Math.exp( -2 ), 2 ), 0
+            },
+            l_return.stream().mapToDouble( i -> i.<Number>raw().doubleValue() ).toArray(),
+            1e-15
+        );
+    }
+
 
     /**
      * test stirling
@@ -361,6 +1171,33 @@ public final class TestCActionMath extends IBaseTest
         Assertions.assertArrayEquals( Stream.of( 3L, 966L ).toArray(), l_return.stream().map( ITerm::<Number>raw ).toArray() );
     }
 
+    /**
+     * test stirling table
+     */
+    @Test
+    public void stirlingtable()
+    {
+        Stream.concat(
+            IntStream.range( 0, 120 ).boxed().flatMap( n -> IntStream.rangeClosed( 0, n ).mapToObj( k -> new int[]{n, k} ) ),
+            IntStream.of( 1, 2, 3, 150, 298, 299, 300 ).mapToObj( k -> new int[]{300, k} )
+        ).parallel().forEach( i ->
+        {
+            final int n = i[0];
+            final int k = i[1];
+            final BigInteger l_stirling = IntStream.rangeClosed( 0, k ).mapToObj(
+                j -> CPascalTriangle.binomialbig( k, j ).multiply( BigInteger.valueOf( k - j ).pow( n ) ).multiply( BigInteger.valueOf( 1 - 2 * ( j & 1 ) ) )
+            ).reduce( BigInteger.ZERO, BigInteger::add ).divide( CCombinatorics.factorialbig( false, k ) );
+
+            Assertions.assertEquals( l_stirling, CStirlingTable.stirlingbig( n, k ) );
+            if ( l_stirling.bitLength() < Long.SIZE )
+                Assertions.assertEquals( l_stirling.longValueExact(), CStirlingTable.stirling( n, k ) );
+            else
+                Assertions.assertThrows( MathArithmeticException.class, () -> CStirlingTable.stirling( n, k ) );
+        } );
+
+        Assertions.assertEquals( Math.log( CStirlingTable.stirlingdouble( 100, 20 ) ), CStirlingTable.stirlinglog( 100, 20 ), 1e-12 );
+    }
+
 
     /**
      * test power
@@ -397,8 +1234,53 @@ public final class TestCActionMath extends IBaseTest
             l_return
         );
 
-        Assertions.assertEquals( 1, l_return.size() );
+        new CGeometricMean().execute( false, IContext.EMPTYPLAN, Stream.of( -1, 0, 2 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        new CGeometricMean().execute( false, IContext.EMPTYPLAN, List.of( CRawTerm.of( List.of() ) ), l_return );
+
+        Assertions.assertEquals( 3, l_return.size() );
         Assertions.assertEquals( 1.0152139522031014, l_return.get( 0 ).<Number>raw() );
+        Assertions.assertEquals( 0.0, l_return.get( 1 ).<Number>raw() );
+        Assertions.assertEquals( Double.NaN, l_return.get( 2 ).<Number>raw() );
+    }
+
+
+    /**
+     * test geometricmean on large input without overflow
+     */
+    @Test
+    public void geometricmeanlarge()
+    {
+        final List<ITerm> l_input = List.of(
+            CRawTerm.of( IntStream.range( 0, 1000000 ).mapToObj( i -> i % 2 == 0 ? 2.0 : 8.0 ).collect( Collectors.toList() ) )
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CGeometricMean().execute( false, IContext.EMPTYPLAN, l_input, l_return );
+        new CGeometricMean().execute( true, IContext.EMPTYPLAN, l_input, l_return );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 4.0, l_return.get( 0 ).<Number>raw().doubleValue(), 1e-9 );
+        Assertions.assertEquals( 4.0, l_return.get( 1 ).<Number>raw().doubleValue(), 1e-9 );
+    }
+
+
+    /**
+     * test summation engines
+     */
+    @Test
+    public void summation()
+    {
+        final double[] l_values = IntStream.range( 0, 3 * CMathCommon.PARALLELTHRESHOLD )
+                                           .mapToDouble( i -> i % 3 == 0 ? 1e16 : i % 3 == 1 ? 1.0 : -1e16 )
+                                           .toArray();
+
+        Assertions.assertNotEquals( CMathCommon.PARALLELTHRESHOLD, ESummation.NAIVE.sum( false, l_values ) );
+        Assertions.assertEquals( CMathCommon.PARALLELTHRESHOLD, ESummation.KAHAN.sum( false, l_values ) );
+        Assertions.assertEquals( CMathCommon.PARALLELTHRESHOLD, ESummation.KAHAN.sum( true, l_values ) );
+
+        Stream.of( ESummation.values() ).forEach( i -> Assertions.assertEquals( i.sum( true, l_values ), i.sum( true, l_values ) ) );
+        Assertions.assertEquals( 5050.0, ESummation.PAIRWISE.sum( IntStream.rangeClosed( 1, 100 ).asDoubleStream().toArray(), 0, 100 ) );
+        Assertions.assertEquals( Double.POSITIVE_INFINITY, ESummation.KAHAN.sum( new double[]{1, Double.POSITIVE_INFINITY}, 0, 2 ) );
     }
 
 
@@ -444,6 +1326,18 @@ public final class TestCActionMath extends IBaseTest
                        .toArray(),
             l_return.stream().map( ITerm::<Number>raw ).toArray()
         );
+
+        l_return.clear();
+        new CHypot().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1, List.of( 2, List.of( 3 ) ), List.of( 4, 5, 6 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            Stream.of( Math.hypot( 1, 2 ), Math.hypot( 3, 4 ), Math.hypot( 5, 6 ) ).toArray(),
+            l_return.stream().map( ITerm::<Number>raw ).toArray()
+        );
     }
 
 
@@ -483,4 +1377,43 @@ public final class TestCActionMath extends IBaseTest
         Assertions.assertEquals( 3D, l_return.get( 0 ).<Number>raw() );
     }
 
+    /**
+     * test index selection against a sorted reference
+     */
+    @Test
+    public void indexselection()
+    {
+        final Random l_random = new Random( 31 );
+        final double[] l_values = IntStream.range( 0, 3 * CMathCommon.PARALLELTHRESHOLD ).mapToDouble( i -> l_random.nextInt( 5000 ) ).toArray();
+        final List<Integer> l_descending = IntStream.range( 0, l_values.length ).boxed()
+                                                    .sorted( ( i, j ) -> l_values[i] == l_values[j] ? Integer.compare( i, j ) : Double.compare( l_values[j], l_values[i] ) )
+                                                    .collect( Collectors.toList() );
+        final List<Integer> l_ascending = IntStream.range( 0, l_values.length ).boxed()
+                                                   .sorted( ( i, j ) -> l_values[i] == l_values[j] ? Integer.compare( j, i ) : Double.compare( l_values[i], l_values[j] ) )
+                                                   .collect( Collectors.toList() );
+
+        Stream.of( false, true ).forEach( i ->
+        {
+            Assertions.assertEquals( l_descending.get( 0 ), CIndexSelection.argmax( i, l_values ) );
+            Assertions.assertEquals( l_ascending.get( 0 ), CIndexSelection.argmin( i, l_values ) );
+            Assertions.assertArrayEquals( l_descending.stream().limit( 50 ).mapToInt( j -> j ).toArray(), CIndexSelection.top( i, l_values, 50, true ) );
+            Assertions.assertArrayEquals( l_ascending.stream().limit( 50 ).mapToInt( j -> j ).toArray(), CIndexSelection.top( i, l_values, 50, false ) );
+        } );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CMaxIndices().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 2, 5, 6, List.of( 7, 8, List.of( 1, 2, 3 ) ), 8 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CMinIndices().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 10, 5, 1, Double.NaN, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( List.of( 3.0, 7.0 ), l_return.get( 0 ).raw() );
+        Assertions.assertEquals( List.of( 3.0, 1.0, 0.0 ), l_return.get( 1 ).raw() );
+    }
+
 }